@@ -0,0 +1,82 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Simulated request mix behind the admission gate: each request blocks 50ms off-database
+// (remote call, client I/O) and then holds one of 10 connections for 1ms. Compares a
+// Tomcat-sized platform pool (200 threads) with a virtual thread per request. This drives the
+// gate directly, not Tomcat; it shows the threading effect, not end-to-end HTTP throughput.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AdmissionThroughputBenchmark {
+
+    private static final int POOL_SIZE = 10;
+
+    @Param({"platform", "virtual"})
+    String threads;
+
+    @Param({"2000"})
+    int requests;
+
+    AdmissionControlledDataSource gated;
+
+    @Setup
+    public void setup() {
+        gated = new AdmissionControlledDataSource(new SleepingPool(), POOL_SIZE, Duration.ofSeconds(30));
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        ExecutorService executor = threads.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(200);
+        try (executor) {
+            var futures = new ArrayList<Future<?>>(requests);
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    Thread.sleep(50);
+                    try (Connection c = gated.getConnection()) {
+                        c.isValid(0);
+                    }
+                    return null;
+                }));
+            }
+            for (var f : futures) f.get();
+        }
+        return requests;
+    }
+
+    // Connections whose only work is a 1ms "query"
+    private static class SleepingPool extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("isValid")) {
+                            Thread.sleep(1);
+                            return true;
+                        }
+                        return null;
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+    }
+}
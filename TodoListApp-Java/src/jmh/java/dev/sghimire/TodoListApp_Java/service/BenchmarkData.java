@@ -0,0 +1,53 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.model.Category;
+import dev.sghimire.TodoListApp_Java.model.Task;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import dev.sghimire.TodoListApp_Java.model.UserAccount;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Deterministic fixtures shared by the benchmarks
+final class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    static List<Task> tasks(int count) {
+        var categories = new ArrayList<Category>();
+        for (int i = 1; i <= 5; i++) {
+            var c = new Category();
+            c.setId(i);
+            c.setName("Category " + i);
+            categories.add(c);
+        }
+        var users = new ArrayList<UserAccount>();
+        for (int i = 1; i <= 20; i++) {
+            var u = new UserAccount();
+            u.setId(i);
+            u.setName("User " + i);
+            u.setEmail("user" + i + "@example.com");
+            users.add(u);
+        }
+
+        var statuses = TaskStatus.values();
+        var tasks = new ArrayList<Task>(count);
+        for (int i = 1; i <= count; i++) {
+            var t = new Task();
+            t.setId(i);
+            t.setTitle("Task " + i);
+            t.setDescription("Description for task " + i + " with a little more text to serialize");
+            t.setStatus(statuses[i % statuses.length]);
+            t.setCategory(categories.get(i % categories.size()));
+            t.setAssignee(users.get(i % users.size()));
+            t.setCreatedBy(users.get((i * 7) % users.size()));
+            t.setDueDate(LocalDate.of(2026, 1, 1).plusDays(i % 365));
+            t.setCompletedAt(t.getStatus() == TaskStatus.COMPLETED ? LocalDateTime.of(2026, 1, 2, 3, 4) : null);
+            t.setVersion(i % 4);
+            tasks.add(t);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,46 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sghimire.TodoListApp_Java.dto.PageResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+// Serializes a list page with the ObjectMapper Boot builds for the app (same modules/features)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskJsonBenchmark {
+
+    @Param({"10", "100"})
+    int pageSize;
+
+    ConfigurableApplicationContext context;
+    ObjectMapper mapper;
+    PageResponse<TaskResponse> page;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        mapper = context.getBean(ObjectMapper.class);
+        var content = BenchmarkData.tasks(pageSize).stream().map(TaskService::toDto).toList();
+        page = new PageResponse<>(content, 0, pageSize, 10_000L, 10_000 / pageSize, true, false, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return mapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,88 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.TodoListAppJavaApplication;
+import dev.sghimire.TodoListApp_Java.dto.CategoryRequest;
+import dev.sghimire.TodoListApp_Java.dto.PageResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskCreateRequest;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.dto.UserCreateRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+// Full paged list path (repository projection + count + mapping) on in-memory H2,
+// using the "bench" profile from src/jmh/resources
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+
+    static final int TASKS = 10_000;
+    static final int PAGE_SIZE = 20;
+
+    ConfigurableApplicationContext context;
+    TaskService tasks;
+    String deepCursor;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(TodoListAppJavaApplication.class)
+                .profiles("bench")
+                .run();
+        tasks = context.getBean(TaskService.class);
+        var users = context.getBean(UserService.class);
+        var categories = context.getBean(CategoryService.class);
+
+        var userIds = new ArrayList<Integer>();
+        for (int i = 0; i < 20; i++) {
+            userIds.add(users.create(new UserCreateRequest("User " + i, "user" + i + "@example.com")).id());
+        }
+        var categoryIds = new ArrayList<Integer>();
+        for (int i = 0; i < 5; i++) {
+            categoryIds.add(categories.create(new CategoryRequest("Category " + i)).getId());
+        }
+
+        for (int batch = 0; batch < TASKS / TaskService.MAX_BATCH_SIZE; batch++) {
+            var reqs = new ArrayList<TaskCreateRequest>();
+            for (int i = 0; i < TaskService.MAX_BATCH_SIZE; i++) {
+                int n = batch * TaskService.MAX_BATCH_SIZE + i;
+                reqs.add(new TaskCreateRequest("Task " + n, "Description " + n,
+                        categoryIds.get(n % categoryIds.size()),
+                        userIds.get(n % userIds.size()),
+                        LocalDate.of(2026, 1, 1).plusDays(n % 365)));
+            }
+            tasks.createBatch(reqs, userIds.get(0));
+        }
+
+        // cursor positioned roughly where offset page 250 would start
+        String cursor = null;
+        for (int i = 0; i < 250; i++) cursor = tasks.listAfter(null, cursor, PAGE_SIZE).nextCursor();
+        deepCursor = cursor;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> firstPage() {
+        return tasks.list(null, PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> deepOffsetPage() {
+        return tasks.list(null, PageRequest.of(250, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> deepCursorPage() {
+        return tasks.listAfter(null, deepCursor, PAGE_SIZE);
+    }
+}
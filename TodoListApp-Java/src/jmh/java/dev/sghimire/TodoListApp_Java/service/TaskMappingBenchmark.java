@@ -0,0 +1,29 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskMappingBenchmark {
+
+    @Param({"10", "100"})
+    int pageSize;
+
+    List<Task> page;
+
+    @Setup
+    public void setup() {
+        page = BenchmarkData.tasks(pageSize);
+    }
+
+    @Benchmark
+    public List<TaskResponse> toDtoPage() {
+        return page.stream().map(TaskService::toDto).toList();
+    }
+}
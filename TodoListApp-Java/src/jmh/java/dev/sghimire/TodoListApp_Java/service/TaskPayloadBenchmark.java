@@ -0,0 +1,86 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.sghimire.TodoListApp_Java.config.CompactTaskJsonConverter;
+import dev.sghimire.TodoListApp_Java.dto.PageResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Serialization time per list-page encoding (MessageConverterConfig), optionally gzipped as
+// server.compression would. The payload size is reported next to each score as payloadBytes, e.g.
+//   ./gradlew jmh -Pjmh.includes=TaskPayloadBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskPayloadBenchmark {
+
+    @Param({"json", "compact", "cbor", "smile"})
+    String encoding;
+
+    @Param({"false", "true"})
+    boolean gzip;
+
+    @Param({"10", "100"})
+    int pageSize;
+
+    // bytes of one serialized page; assigned, not summed, so the secondary result is the size itself
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    ConfigurableApplicationContext context;
+    ObjectMapper mapper;
+    PageResponse<TaskResponse> page;
+
+    @Setup
+    public void setup() throws IOException {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        mapper = switch (encoding) {
+            case "json", "compact" -> context.getBean(ObjectMapper.class);
+            case "cbor" -> context.getBean(Jackson2ObjectMapperBuilder.class).factory(new CBORFactory()).build();
+            case "smile" -> context.getBean(Jackson2ObjectMapperBuilder.class).factory(new SmileFactory()).build();
+            default -> throw new IllegalArgumentException(encoding);
+        };
+        var content = BenchmarkData.tasks(pageSize).stream().map(TaskService::toDto).toList();
+        page = new PageResponse<>(content, 0, pageSize, 10_000L, 10_000 / pageSize, true, false, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload payload) throws IOException {
+        byte[] bytes = encode();
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    private byte[] encode() throws IOException {
+        Object body = encoding.equals("compact") ? CompactTaskJsonConverter.compact(page) : page;
+        if (!gzip) return mapper.writeValueAsBytes(body);
+
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(out, body);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,48 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.config.RecentWriters;
+import dev.sghimire.TodoListApp_Java.dto.UserCreateRequest;
+import dev.sghimire.TodoListApp_Java.dto.UserResponse;
+import dev.sghimire.TodoListApp_Java.model.UserAccount;
+import dev.sghimire.TodoListApp_Java.repository.UserAccountRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Normalization/validation cost of UserService.create with an in-memory repository stub
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserCreateBenchmark {
+
+    UserService service;
+    UserCreateRequest request = new UserCreateRequest("  Alice Example  ", "  Alice.Example@Example.COM ");
+
+    @Setup
+    public void setup() {
+        var ids = new AtomicInteger();
+        var users = (UserAccountRepository) Proxy.newProxyInstance(
+                UserAccountRepository.class.getClassLoader(),
+                new Class<?>[]{UserAccountRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByEmailIgnoreCase" -> Optional.empty();
+                    case "save", "saveAndFlush" -> {
+                        var u = (UserAccount) args[0];
+                        u.setId(ids.incrementAndGet());
+                        yield u;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        service = new UserService(users, new ReferenceDataCache(users, null),
+                new RecentWriters(false, Duration.ofSeconds(5), "X-User-Id"));
+    }
+
+    @Benchmark
+    public UserResponse create() {
+        return service.create(request);
+    }
+}
@@ -0,0 +1,131 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Fair semaphore in front of the pool: a connection needs a permit, returned on close().
+// Waiters park on the semaphore (cheap for virtual threads) instead of piling into Hikari.
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutNanos;
+    private volatile Timer waitTimer;
+    // smoothed permit wait in nanos; a cheap pool-pressure signal for callers
+    private volatile double recentWaitNanos;
+
+    public AdmissionControlledDataSource(DataSource target, int permits, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.timeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int permits() {
+        return maxPermits;
+    }
+
+    public int inUse() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    public Duration recentWait() {
+        return Duration.ofNanos((long) recentWaitNanos);
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        bindTo(registry, Tags.empty());
+    }
+
+    // tags tell gates apart when there are several (one per pool with replica routing)
+    public void bindTo(MeterRegistry registry, Tags tags) {
+        Gauge.builder("todo.datasource.admission.permits", this, AdmissionControlledDataSource::permits)
+                .description("Connections the gate admits at once").tags(tags).register(registry);
+        Gauge.builder("todo.datasource.admission.in_use", this, AdmissionControlledDataSource::inUse)
+                .description("Connections currently admitted").tags(tags).register(registry);
+        Gauge.builder("todo.datasource.admission.waiting", this, AdmissionControlledDataSource::waiting)
+                .description("Threads waiting for an admission permit").tags(tags).register(registry);
+        this.waitTimer = Timer.builder("todo.datasource.admission.wait")
+                .description("Time spent waiting for an admission permit").tags(tags).register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Timed out waiting for a datasource admission permit after "
+                        + Duration.ofNanos(timeoutNanos).toMillis() + "ms (" + waiting() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a datasource admission permit", e);
+        } finally {
+            long waited = System.nanoTime() - start;
+            recentWaitNanos = recentWaitNanos * 0.9 + waited * 0.1;
+            var timer = waitTimer;
+            if (timer != null) timer.record(waited, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Connection guard(Connection target) {
+        var released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) permits.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
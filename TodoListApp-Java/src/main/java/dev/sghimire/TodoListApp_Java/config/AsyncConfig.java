@@ -1,8 +1,60 @@
 package dev.sghimire.TodoListApp_Java.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
-public class AsyncConfig {}
+@EnableConfigurationProperties(AsyncProperties.class)
+public class AsyncConfig {
+
+    // "taskExecutor" is what @Async resolves: short CPU/DB recomputes on the bounded pool below
+    @Bean(name = "taskExecutor")
+    AsyncTaskExecutor taskExecutor(AsyncProperties props, MeterRegistry registry) {
+        var decorator = new InstrumentedTaskDecorator(registry, props.mode().name().toLowerCase());
+
+        if (props.mode() == AsyncProperties.Mode.VIRTUAL) {
+            var executor = new SimpleAsyncTaskExecutor(props.threadNamePrefix());
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(props.concurrencyLimit());
+            executor.setTaskDecorator(decorator);
+            return executor;
+        }
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(props.threadNamePrefix());
+        executor.setCorePoolSize(props.corePoolSize());
+        executor.setMaxPoolSize(props.maxPoolSize());
+        executor.setQueueCapacity(props.queueCapacity());
+        executor.setRejectedExecutionHandler(decorator.rejectionHandler());
+        executor.setTaskDecorator(decorator);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    // "applicationTaskExecutor" is what MVC async (StreamingResponseBody exports, Callable) runs
+    // on. Those tasks block on the client for up to spring.mvc.async.request-timeout, so they
+    // get a virtual thread each instead of queueing behind each other on the @Async pool.
+    @Bean(name = "applicationTaskExecutor")
+    AsyncTaskExecutor applicationTaskExecutor() {
+        var executor = new SimpleAsyncTaskExecutor("mvc-async-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    // SSE drains block in emitter.send for as long as a slow client takes to read, one drain per
+    // subscriber; a virtual thread each keeps them off the bounded pool and never rejects.
+    @Bean(name = "sseExecutor")
+    AsyncTaskExecutor sseExecutor() {
+        var executor = new SimpleAsyncTaskExecutor("sse-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
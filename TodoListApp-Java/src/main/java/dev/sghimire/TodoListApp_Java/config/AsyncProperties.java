@@ -0,0 +1,16 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "todo.async")
+public record AsyncProperties(
+        @DefaultValue("PLATFORM") Mode mode,
+        @DefaultValue("4") int corePoolSize,       // platform mode
+        @DefaultValue("16") int maxPoolSize,       // platform mode
+        @DefaultValue("500") int queueCapacity,    // platform mode; full queue + max threads -> rejected
+        @DefaultValue("256") int concurrencyLimit, // virtual mode; extra submitters wait
+        @DefaultValue("async-") String threadNamePrefix
+) {
+    public enum Mode { PLATFORM, VIRTUAL }
+}
@@ -0,0 +1,15 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Caching advice runs outside @Transactional, so @CacheEvict fires only after the commit
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+    public static final String USERS = "users";
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORIES_BY_NAME = "categoriesByName";
+    public static final String CATEGORY_LIST = "categoryList";
+}
@@ -0,0 +1,97 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sghimire.TodoListApp_Java.dto.CompactTaskPage;
+import dev.sghimire.TodoListApp_Java.dto.PageResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Writes PageResponse<TaskResponse> and List<TaskResponse> as CompactTaskPage when the client
+// asks for application/vnd.todo.compact+json. Write-only, and only for an explicit Accept:
+// it reports no producible type for */*, so plain JSON stays the default.
+// Registered ahead of the JSON converter, which would otherwise claim the type as */*+json.
+public class CompactTaskJsonConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final MediaType COMPACT_JSON = MediaType.parseMediaType("application/vnd.todo.compact+json");
+
+    static final List<String> COLUMNS = List.of(
+            "id", "title", "description", "status", "categoryId", "assigneeId", "createdById",
+            "dueDate", "completedAt", "version");
+
+    public CompactTaskJsonConverter(ObjectMapper mapper) {
+        super(mapper, COMPACT_JSON);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (mediaType == null || !COMPACT_JSON.includes(mediaType)) return false;
+        var resolved = (type != null) ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        Class<?> raw = resolved.resolve();
+        if (raw == null || !(PageResponse.class.isAssignableFrom(raw) || List.class.isAssignableFrom(raw))) {
+            return false;
+        }
+        return resolved.getGeneric(0).resolve() == TaskResponse.class;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        super.writeInternal(compact(object), CompactTaskPage.class, outputMessage);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static CompactTaskPage compact(Object body) {
+        if (body instanceof PageResponse<?> p) {
+            var content = (List<TaskResponse>) p.content();
+            var page = rows(content);
+            return new CompactTaskPage(COLUMNS, page.rows, page.categories, page.users,
+                    p.page(), p.size(), p.totalElements(), p.totalPages(), p.first(), p.last(), p.nextCursor());
+        }
+        var page = rows((List<TaskResponse>) body);
+        return new CompactTaskPage(COLUMNS, page.rows, page.categories, page.users,
+                null, null, null, null, null, null, null);
+    }
+
+    private record Rows(List<Object[]> rows, Map<Integer, String> categories, Map<Integer, String> users) {}
+
+    private static Rows rows(List<TaskResponse> tasks) {
+        var rows = new ArrayList<Object[]>(tasks.size());
+        var categories = new LinkedHashMap<Integer, String>();
+        var users = new LinkedHashMap<Integer, String>();
+        for (var t : tasks) {
+            rows.add(new Object[]{
+                    t.id(), t.title(), t.description(), t.status(), t.categoryId(), t.assigneeId(),
+                    t.createdById(), t.dueDate(), t.completedAt(), t.version()});
+            if (t.categoryId() != null) categories.putIfAbsent(t.categoryId(), t.categoryName());
+            if (t.assigneeId() != null) users.putIfAbsent(t.assigneeId(), t.assigneeName());
+            if (t.createdById() != null) users.putIfAbsent(t.createdById(), t.createdByName());
+        }
+        return new Rows(rows, categories, users);
+    }
+}
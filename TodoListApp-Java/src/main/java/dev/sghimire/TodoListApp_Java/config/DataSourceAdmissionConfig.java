@@ -0,0 +1,64 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+// Gates the DataSource bean as a whole. With todo.datasource.routing.enabled that bean is the
+// router over several pools, so ReplicaRoutingConfig gates each pool instead and this leaves it be.
+@Configuration
+@ConditionalOnProperty(prefix = "todo.datasource.admission", name = "enabled", havingValue = "true")
+public class DataSourceAdmissionConfig {
+
+    // static: BeanPostProcessors must not drag their configuration class into early init
+    @Bean
+    static BeanPostProcessor dataSourceAdmissionControl(Environment env) {
+        var binder = Binder.get(env);
+        boolean routing = binder.bind("todo.datasource.routing.enabled", Boolean.class).orElse(false);
+        int permits = binder.bind("todo.datasource.admission.permits", Integer.class)
+                .orElseGet(() -> binder.bind("spring.datasource.hikari.maximum-pool-size", Integer.class).orElse(10));
+        Duration timeout = acquireTimeout(binder);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!routing && bean instanceof DataSource ds && !(bean instanceof AdmissionControlledDataSource)) {
+                    return new AdmissionControlledDataSource(ds, permits, timeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.datasource.routing", name = "enabled", havingValue = "false",
+            matchIfMissing = true)
+    MeterBinder dataSourceAdmissionMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.forEach(ds -> {
+            try {
+                if (ds.isWrapperFor(AdmissionControlledDataSource.class)) {
+                    ds.unwrap(AdmissionControlledDataSource.class).bindTo(registry);
+                }
+            } catch (SQLException ignored) {
+                // not wrapped; nothing to bind
+            }
+        });
+    }
+
+    static boolean enabled(Binder binder) {
+        return binder.bind("todo.datasource.admission.enabled", Boolean.class).orElse(false);
+    }
+
+    static Duration acquireTimeout(Binder binder) {
+        return binder.bind("todo.datasource.admission.acquire-timeout", Duration.class).orElse(Duration.ofSeconds(30));
+    }
+}
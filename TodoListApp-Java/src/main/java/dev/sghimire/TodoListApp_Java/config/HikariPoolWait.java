@@ -0,0 +1,58 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Load-shedding signal read straight from a Hikari pool, for when there is no admission gate.
+// Zero unless threads are waiting for a connection; otherwise the mean hikaricp.connections.acquire
+// time over the last window. The timer is cumulative, so the window is the delta between samples.
+final class HikariPoolWait implements ThrottlingFilter.PoolWait {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final HikariDataSource pool;
+    private final MeterRegistry registry;
+
+    private Timer acquire;                  // registered once the pool has started
+    private volatile long sampledAt = System.nanoTime() - WINDOW_NANOS;
+    private long sampledCount;
+    private double sampledTotalNanos;
+    private volatile Duration recent = Duration.ZERO;
+
+    HikariPoolWait(HikariDataSource pool, MeterRegistry registry) {
+        this.pool = pool;
+        this.registry = registry;
+    }
+
+    @Override
+    public Duration current() {
+        HikariPoolMXBean mx = pool.getHikariPoolMXBean();   // null until the first connection
+        if (mx == null || mx.getThreadsAwaitingConnection() == 0) return Duration.ZERO;
+        if (System.nanoTime() - sampledAt >= WINDOW_NANOS) sample();
+        return recent;
+    }
+
+    private synchronized void sample() {
+        long now = System.nanoTime();
+        if (now - sampledAt < WINDOW_NANOS) return;     // another caller just did
+        if (acquire == null) {
+            acquire = registry.find("hikaricp.connections.acquire").tag("pool", pool.getPoolName()).timer();
+            if (acquire == null) return;
+        }
+        long count = acquire.count();
+        double total = acquire.totalTime(TimeUnit.NANOSECONDS);
+        if (count > sampledCount) {
+            recent = Duration.ofNanos((long) ((total - sampledTotalNanos) / (count - sampledCount)));
+        } else if (recent.toNanos() < now - sampledAt) {
+            recent = Duration.ofNanos(now - sampledAt);  // nobody got a connection all window: stalled
+        }
+        sampledCount = count;
+        sampledTotalNanos = total;
+        sampledAt = now;
+    }
+}
@@ -0,0 +1,91 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Carries MDC + SecurityContext from the submitting thread into the async task and tracks
+// queue depth, active count, wait/run latency and rejections, independent of executor type.
+class InstrumentedTaskDecorator implements TaskDecorator {
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Timer runTimer;
+    private final Counter rejected;
+
+    InstrumentedTaskDecorator(MeterRegistry registry, String mode) {
+        Gauge.builder("todo.async.queued", queued, AtomicInteger::get)
+                .description("Tasks submitted but not yet started").tag("mode", mode).register(registry);
+        Gauge.builder("todo.async.active", active, AtomicInteger::get)
+                .description("Tasks currently running").tag("mode", mode).register(registry);
+        this.waitTimer = Timer.builder("todo.async.task.wait")
+                .description("Time from submission to start").tag("mode", mode).register(registry);
+        this.runTimer = Timer.builder("todo.async.task.run")
+                .description("Task execution time").tag("mode", mode).register(registry);
+        this.rejected = Counter.builder("todo.async.rejected")
+                .description("Tasks rejected because the executor was saturated").tag("mode", mode).register(registry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        queued.incrementAndGet();
+        return new ContextRunnable(task, MDC.getCopyOfContextMap(), SecurityContextHolder.getContext());
+    }
+
+    // Counts the rejection, undoes the queued bump, then aborts like the default policy
+    RejectedExecutionHandler rejectionHandler() {
+        return (Runnable r, ThreadPoolExecutor executor) -> {
+            rejected.increment();
+            if (r instanceof ContextRunnable) queued.decrementAndGet();
+            throw new RejectedExecutionException("Async executor saturated (queue "
+                    + executor.getQueue().size() + ", active " + executor.getActiveCount() + ")");
+        };
+    }
+
+    private final class ContextRunnable implements Runnable {
+        private final Runnable task;
+        private final Map<String, String> mdc;
+        private final SecurityContext securityContext;
+        private final long submittedAt = System.nanoTime();
+
+        ContextRunnable(Runnable task, Map<String, String> mdc, SecurityContext securityContext) {
+            this.task = task;
+            this.mdc = mdc;
+            this.securityContext = securityContext;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            queued.decrementAndGet();
+            active.incrementAndGet();
+            waitTimer.record(start - submittedAt, TimeUnit.NANOSECONDS);
+
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContext previousSecurity = SecurityContextHolder.getContext();
+            try {
+                if (mdc != null) MDC.setContextMap(mdc); else MDC.clear();
+                SecurityContextHolder.setContext(securityContext);
+                task.run();
+            } finally {
+                if (previousMdc != null) MDC.setContextMap(previousMdc); else MDC.clear();
+                SecurityContextHolder.setContext(previousSecurity);
+                active.decrementAndGet();
+                runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
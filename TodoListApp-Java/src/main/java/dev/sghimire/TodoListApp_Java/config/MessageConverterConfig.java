@@ -0,0 +1,35 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+// Extra response encodings, picked by Accept (JSON stays the default):
+//   application/cbor, application/x-jackson-smile   binary, same structure as the JSON
+//   application/vnd.todo.compact+json                columnar task lists, see CompactTaskJsonConverter
+// CBOR/Smile mappers come from Boot's builder so dates, modules and features match the JSON
+// output; the beans replace the default converters Spring MVC adds for these formats.
+@Configuration
+public class MessageConverterConfig {
+
+    @Bean
+    MappingJackson2CborHttpMessageConverter cborConverter(ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.getObject().factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    MappingJackson2SmileHttpMessageConverter smileConverter(ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.getObject().factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    CompactTaskJsonConverter compactTaskJsonConverter(ObjectMapper mapper) {
+        return new CompactTaskJsonConverter(mapper);
+    }
+}
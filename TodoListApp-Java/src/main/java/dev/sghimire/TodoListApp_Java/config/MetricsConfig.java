@@ -0,0 +1,40 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// @Timed on the services (todo.service{class,method,exception}), per-request SQL counts.
+// Hikari pool meters (and Hibernate statistics, when enabled) come from Boot's auto-configuration.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer sqlStatementCounter() {
+        return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    // Picked up by Boot's web MVC observation filter in place of the default convention
+    @Bean
+    SqlCountObservationConvention sqlCountObservationConvention() {
+        return new SqlCountObservationConvention();
+    }
+
+    @Bean
+    FilterRegistrationBean<SqlCountFilter> sqlCountFilter(MeterRegistry registry,
+                                                          @Value("${todo.metrics.sql-warn-threshold:50}") int warnThreshold) {
+        var registration = new FilterRegistrationBean<>(new SqlCountFilter(registry, warnThreshold));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,15 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import java.time.Duration;
+
+// Per-key admission for ThrottlingFilter. The in-memory TokenBucketRateLimiter limits per
+// instance; a shared backend (e.g. Redis) can be plugged in by declaring userRateLimiter and
+// addressRateLimiter beans.
+public interface RateLimiter {
+
+    record Decision(boolean allowed, Duration retryAfter) {
+        static final Decision ALLOW = new Decision(true, Duration.ZERO);
+    }
+
+    Decision tryAcquire(String key);
+}
@@ -0,0 +1,69 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+// Read-your-writes for replica routing: users (the sticky header of the request) whose write
+// committed within sticky-window. Write services call recordWrite() from inside their
+// transaction and the user is remembered only once it commits, so a transaction that merely
+// isn't read-only (the change feed, say) never pins its caller to the primary.
+@Component
+public class RecentWriters {
+
+    private final boolean enabled;
+    private final String stickyHeader;
+    private final Cache<String, Boolean> writers;
+
+    public RecentWriters(@Value("${todo.datasource.routing.enabled:false}") boolean enabled,
+                         @Value("${todo.datasource.routing.sticky-window:5s}") Duration stickyWindow,
+                         @Value("${todo.datasource.routing.sticky-header:X-User-Id}") String stickyHeader) {
+        this.enabled = enabled;
+        this.stickyHeader = stickyHeader;
+        this.writers = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite() {
+        if (!enabled) return;
+        String user = currentUser();
+        if (user == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (TransactionSynchronizationManager.hasResource(this)) return; // once per transaction
+            TransactionSynchronizationManager.bindResource(this, user);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    writers.put(user, Boolean.TRUE);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RecentWriters.this);
+                }
+            });
+        } else {
+            writers.put(user, Boolean.TRUE); // auto-commit: already durable
+        }
+    }
+
+    boolean isRecent(String user) {
+        return user != null && writers.getIfPresent(user) != null;
+    }
+
+    String currentUser() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs) {
+            return attrs.getRequest().getHeader(stickyHeader);
+        }
+        return null; // async/scheduled work: no user to keep consistent
+    }
+}
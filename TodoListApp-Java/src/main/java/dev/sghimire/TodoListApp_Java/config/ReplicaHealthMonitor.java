@@ -0,0 +1,91 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Probes each replica on a schedule: reachable and replaying WAL no more than max-lag behind.
+// Lag is now() - pg_last_xact_replay_timestamp(), which overstates lag while the primary is
+// idle (nothing to replay); that only costs some reads going to the primary.
+public class ReplicaHealthMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private static final String LAG_SQL = """
+            SELECT CASE WHEN pg_is_in_recovery()
+                        THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                        ELSE 0 END
+            """;
+
+    static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy;       // false until the first successful check
+        volatile double lagSeconds = Double.NaN;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    ReplicaHealthMonitor(List<Replica> replicas, Duration maxLag, MeterRegistry registry) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        for (Replica r : replicas) {
+            Gauge.builder("todo.datasource.replica.healthy", r, x -> x.healthy ? 1 : 0)
+                    .description("1 if the replica passed its last health/lag check").tag("replica", r.name)
+                    .register(registry);
+            Gauge.builder("todo.datasource.replica.lag", r, x -> x.lagSeconds)
+                    .description("Replication lag seen by the last check").baseUnit("seconds").tag("replica", r.name)
+                    .register(registry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.datasource.routing.health-check-interval:5s}")
+    public void check() {
+        for (Replica r : replicas) {
+            boolean wasHealthy = r.healthy;
+            try (Connection c = r.dataSource.getConnection(); Statement st = c.createStatement()) {
+                st.setQueryTimeout(2);
+                try (ResultSet rs = st.executeQuery(LAG_SQL)) {
+                    rs.next();
+                    r.lagSeconds = rs.getDouble(1);
+                }
+                r.healthy = r.lagSeconds * 1000 <= maxLag.toMillis();
+            } catch (Exception e) {
+                r.healthy = false;
+                r.lagSeconds = Double.NaN;
+                if (wasHealthy) log.warn("Replica {} failed its health check: {}", r.name, e.getMessage());
+            }
+            if (wasHealthy != r.healthy) {
+                log.info("Replica {} is now {} (lag {}s)", r.name, r.healthy ? "in rotation" : "out of rotation", r.lagSeconds);
+            }
+        }
+    }
+
+    // Round-robin over healthy replicas; null when none is usable
+    DataSource pick() {
+        int n = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(n, 1));
+        for (int i = 0; i < n; i++) {
+            Replica r = replicas.get((start + i) % n);
+            if (r.healthy) return r.dataSource;
+        }
+        return null;
+    }
+}
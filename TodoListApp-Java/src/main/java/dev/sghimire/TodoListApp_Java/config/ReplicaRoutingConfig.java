@@ -0,0 +1,93 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Replaces Boot's single pool with primary + replica Hikari pools behind a read-only router.
+// The pools are not beans (Boot would bind them as separate DataSources), so each gets its own
+// Micrometer tracker (hikaricp.* tagged pool=primary / replica-<name>) and is closed here.
+// With todo.datasource.admission.enabled each pool also gets its own admission gate sized to it:
+// one gate over the router would share a primary-sized set of permits across every pool.
+@Configuration
+@ConditionalOnProperty(prefix = "todo.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
+    @Bean
+    ReplicaHealthMonitor replicaHealthMonitor(ReplicaRoutingProperties props, DataSourceProperties primary,
+                                              Environment env, MeterRegistry registry) {
+        var replicas = new ArrayList<ReplicaHealthMonitor.Replica>();
+        for (var r : props.replicas()) {
+            HikariDataSource pool = pool(env, registry, "replica-" + r.name());
+            pool.setJdbcUrl(r.url());
+            pool.setUsername(r.username() != null ? r.username() : primary.determineUsername());
+            pool.setPassword(r.password() != null ? r.password() : primary.determinePassword());
+            pool.setMaximumPoolSize(r.maximumPoolSize());
+            pool.setMinimumIdle(Math.min(pool.getMinimumIdle(), r.maximumPoolSize()));
+            pool.setReadOnly(true);
+            replicas.add(new ReplicaHealthMonitor.Replica(r.name(), admitted(env, registry, pool, r.maximumPoolSize())));
+        }
+        return new ReplicaHealthMonitor(replicas, props.maxLag(), registry);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ReplicaRoutingProperties props, DataSourceProperties primaryProps, Environment env,
+                          ReplicaHealthMonitor replicas, RecentWriters recentWriters, MeterRegistry registry) {
+        HikariDataSource primary = pool(env, registry, "primary");
+        primary.setJdbcUrl(primaryProps.determineUrl());
+        primary.setUsername(primaryProps.determineUsername());
+        primary.setPassword(primaryProps.determinePassword());
+        primary.setDriverClassName(primaryProps.determineDriverClassName());
+
+        int permits = Binder.get(env).bind("todo.datasource.admission.permits", Integer.class)
+                .orElse(primary.getMaximumPoolSize());
+        var router = new ReplicaRoutingDataSource(admitted(env, registry, primary, permits), replicas, recentWriters,
+                registry);
+        router.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(router);
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private static DataSource admitted(Environment env, MeterRegistry registry, HikariDataSource pool, int permits) {
+        var binder = Binder.get(env);
+        if (!DataSourceAdmissionConfig.enabled(binder)) return pool;
+        var gate = new AdmissionControlledDataSource(pool, permits, DataSourceAdmissionConfig.acquireTimeout(binder));
+        gate.bindTo(registry, Tags.of("pool", pool.getPoolName()));
+        return gate;
+    }
+
+    // A pool with the spring.datasource.hikari.* settings, reporting to Micrometer
+    private HikariDataSource pool(Environment env, MeterRegistry registry, String name) {
+        var pool = new HikariDataSource();
+        Binder.get(env).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Read-only transactions go to a healthy replica, everything else to the primary. Must sit
+// behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is only set after
+// the transaction manager has asked for a connection.
+//
+// Read-your-writes: a committed write by a user (see RecentWriters) pins that user's reads to
+// the primary for sticky-window, long enough for replicas to catch up.
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final ReplicaHealthMonitor replicas;
+    private final RecentWriters recentWriters;
+    private final Counter toReplica;
+    private final Counter stickyToPrimary;
+    private final Counter fallbackToPrimary;
+
+    ReplicaRoutingDataSource(DataSource primary, ReplicaHealthMonitor replicas, RecentWriters recentWriters,
+                             MeterRegistry registry) {
+        this.replicas = replicas;
+        this.recentWriters = recentWriters;
+        this.toReplica = routed(registry, "replica", "read-only");
+        this.stickyToPrimary = routed(registry, "primary", "sticky");
+        this.fallbackToPrimary = routed(registry, "primary", "no-healthy-replica");
+        setTargetDataSources(Map.of(PRIMARY, primary));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return PRIMARY; // only reached for the primary; replicas are resolved directly below
+    }
+
+    @Override
+    protected DataSource determineTargetDataSource() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return super.determineTargetDataSource();
+        }
+        if (recentWriters.isRecent(recentWriters.currentUser())) {
+            stickyToPrimary.increment();
+            return super.determineTargetDataSource();
+        }
+        DataSource replica = replicas.pick();
+        if (replica == null) {
+            fallbackToPrimary.increment();
+            return super.determineTargetDataSource();
+        }
+        toReplica.increment();
+        return replica;
+    }
+
+    private static Counter routed(MeterRegistry registry, String target, String reason) {
+        return Counter.builder("todo.datasource.routed")
+                .description("Connections handed out by the replica router")
+                .tags("target", target, "reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,25 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "todo.datasource.routing")
+public record ReplicaRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("10s") Duration maxLag,          // replicas further behind are skipped
+        @DefaultValue("5s") Duration stickyWindow,     // reads stay on the primary this long after a user's write
+        @DefaultValue("X-User-Id") String stickyHeader // (both read by RecentWriters, which exists either way)
+) {
+    public record Replica(
+            String name,
+            String url,
+            String username,                          // defaults to spring.datasource.username
+            String password,                          // defaults to spring.datasource.password
+            @DefaultValue("10") int maximumPoolSize
+    ) {}
+}
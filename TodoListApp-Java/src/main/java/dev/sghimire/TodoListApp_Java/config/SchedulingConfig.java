@@ -0,0 +1,10 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled jobs (TaskReminderScheduler) run on Boot's auto-configured scheduler
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
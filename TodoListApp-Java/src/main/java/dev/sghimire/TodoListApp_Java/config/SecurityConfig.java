@@ -36,13 +36,14 @@ public class SecurityConfig {
 
         config.setAllowedMethods(List.of("GET","POST","PUT","DELETE","OPTIONS"));
         config.setAllowedHeaders(List.of(
-                "Content-Type", "Authorization", "X-Requested-With", "X-User-Id"
+                "Content-Type", "Authorization", "X-Requested-With", "X-User-Id", "Last-Event-ID",
+                "If-None-Match", "If-Match", "Idempotency-Key"
         ));
         // If you need cookies/auth, set this true and match it on the client fetch
         config.setAllowCredentials(false);
 
         // Optional: headers you want the client to read
-        config.setExposedHeaders(List.of("Location"));
+        config.setExposedHeaders(List.of("Location", "ETag", "Retry-After", "Idempotent-Replayed"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
@@ -0,0 +1,69 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Per-request Hibernate statement count: recorded as todo.http.sql.statements{method,uri} and
+// left on the request as a bucket that SqlCountObservationConvention adds to
+// http.server.requests as "sql.statements", so an N+1 regression shows up as a route drifting
+// into a higher bucket.
+class SqlCountFilter extends OncePerRequestFilter {
+
+    static final String BUCKET_ATTRIBUTE = SqlCountFilter.class.getName() + ".bucket";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlCountFilter.class);
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    SqlCountFilter(MeterRegistry registry, int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = SqlStatementCounter.end();
+            String uri = uriTemplate(request);
+
+            DistributionSummary.builder("todo.http.sql.statements")
+                    .description("Hibernate SQL statements per HTTP request")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(registry)
+                    .record(statements);
+            request.setAttribute(BUCKET_ATTRIBUTE, bucket(statements));
+
+            if (statements > warnThreshold) {
+                log.warn("{} {} issued {} SQL statements", request.getMethod(), uri, statements);
+            }
+        }
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static String bucket(int statements) {
+        if (statements == 0) return "0";
+        if (statements <= 2) return "1-2";
+        if (statements <= 5) return "3-5";
+        if (statements <= 20) return "6-20";
+        return "21+";
+    }
+}
@@ -0,0 +1,21 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+// http.server.requests with a "sql.statements" tag on every request. Prometheus needs one tag-key
+// set per meter name, so requests SqlCountFilter does not cover (actuator, static) get "none"
+// instead of no tag at all.
+class SqlCountObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String NONE = "none";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object bucket = context.getCarrier().getAttribute(SqlCountFilter.BUCKET_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context)
+                .and(KeyValue.of("sql.statements", bucket != null ? bucket.toString() : NONE));
+    }
+}
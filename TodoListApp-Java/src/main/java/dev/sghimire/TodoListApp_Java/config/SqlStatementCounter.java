@@ -0,0 +1,27 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts SQL Hibernate prepares on the current thread between begin() and end(). Only sees
+// Hibernate (JPA repositories, JPQL, native queries), not JdbcTemplate.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) count[0]++;
+        return sql;
+    }
+
+    static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    static int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
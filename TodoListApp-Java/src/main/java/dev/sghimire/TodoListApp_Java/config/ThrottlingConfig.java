@@ -0,0 +1,77 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "todo.throttling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ThrottlingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThrottlingConfig.class);
+
+    @Bean
+    @ConditionalOnMissingBean(name = "userRateLimiter")
+    RateLimiter userRateLimiter(@Value("${todo.throttling.rate-limit.capacity:50}") int capacity,
+                                @Value("${todo.throttling.rate-limit.refill-per-second:20}") double refillPerSecond,
+                                @Value("${todo.throttling.rate-limit.idle-expiry:10m}") Duration idleExpiry,
+                                @Value("${todo.throttling.rate-limit.max-keys:100000}") long maxKeys) {
+        return new TokenBucketRateLimiter(capacity, refillPerSecond, idleExpiry, maxKeys);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "addressRateLimiter")
+    RateLimiter addressRateLimiter(@Value("${todo.throttling.rate-limit.per-address.capacity:200}") int capacity,
+                                   @Value("${todo.throttling.rate-limit.per-address.refill-per-second:80}") double refillPerSecond,
+                                   @Value("${todo.throttling.rate-limit.idle-expiry:10m}") Duration idleExpiry,
+                                   @Value("${todo.throttling.rate-limit.max-keys:100000}") long maxKeys) {
+        return new TokenBucketRateLimiter(capacity, refillPerSecond, idleExpiry, maxKeys);
+    }
+
+    // After the security chain, so 429/503 responses still carry CORS headers
+    @Bean
+    FilterRegistrationBean<ThrottlingFilter> throttlingFilter(@Qualifier("userRateLimiter") RateLimiter userLimiter,
+                                                              @Qualifier("addressRateLimiter") RateLimiter addressLimiter,
+                                                              DataSource dataSource, ObjectMapper mapper,
+                                                              MeterRegistry registry,
+                                                              @Value("${todo.throttling.shedding.max-pool-wait:250ms}") Duration maxPoolWait,
+                                                              @Value("${todo.throttling.shedding.retry-after:1s}") Duration retryAfter) {
+        var filter = new ThrottlingFilter(userLimiter, addressLimiter, poolWait(dataSource, registry),
+                maxPoolWait, retryAfter, mapper, registry);
+        var registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    // The admission gate's smoothed permit wait when there is one; otherwise the Hikari pool's own
+    // (the primary's when routing: unwrapping outside a transaction resolves to it)
+    private static ThrottlingFilter.PoolWait poolWait(DataSource dataSource, MeterRegistry registry) {
+        try {
+            if (dataSource.isWrapperFor(AdmissionControlledDataSource.class)) {
+                var gate = dataSource.unwrap(AdmissionControlledDataSource.class);
+                // waiting() > 0 keeps a stale average from shedding once the queue has drained
+                return () -> gate.waiting() > 0 ? gate.recentWait() : Duration.ZERO;
+            }
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return new HikariPoolWait(dataSource.unwrap(HikariDataSource.class), registry);
+            }
+        } catch (SQLException ignored) {
+            // fall through
+        }
+        log.info("Load shedding disabled: no admission gate or Hikari pool behind the datasource");
+        return null;
+    }
+}
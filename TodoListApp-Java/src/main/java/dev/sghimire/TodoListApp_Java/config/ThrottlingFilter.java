@@ -0,0 +1,94 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sghimire.TodoListApp_Java.dto.ApiError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// Two gates in front of the API:
+//  - load shedding: while requests queue for a DB connection longer than max-pool-wait, new
+//    requests get 503 instead of joining the queue;
+//  - rate limiting: a token bucket per client address, and one per X-User-Id when sent; 429 when
+//    either is empty. X-User-Id is not authenticated, so the address bucket is what bounds a
+//    client that rotates ids or spends someone else's.
+// Both set Retry-After (whole seconds) and count todo.http.throttled{reason}.
+class ThrottlingFilter extends OncePerRequestFilter {
+
+    // How long requests currently wait for a database connection; ZERO while none are waiting
+    interface PoolWait {
+        Duration current();
+    }
+
+    private final RateLimiter userLimiter;
+    private final RateLimiter addressLimiter;
+    private final PoolWait pool;                        // null: shedding off
+    private final Duration maxPoolWait;
+    private final Duration shedRetryAfter;
+    private final ObjectMapper mapper;
+    private final Counter rateLimited;
+    private final Counter shed;
+
+    ThrottlingFilter(RateLimiter userLimiter, RateLimiter addressLimiter, PoolWait pool, Duration maxPoolWait,
+                     Duration shedRetryAfter, ObjectMapper mapper, MeterRegistry registry) {
+        this.userLimiter = userLimiter;
+        this.addressLimiter = addressLimiter;
+        this.pool = pool;
+        this.maxPoolWait = maxPoolWait;
+        this.shedRetryAfter = shedRetryAfter;
+        this.mapper = mapper;
+        this.rateLimited = throttled(registry, "rate-limit");
+        this.shed = throttled(registry, "overload");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if ("OPTIONS".equals(request.getMethod())) { // CORS preflight never touches the DB
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (pool != null && pool.current().compareTo(maxPoolWait) > 0) {
+            shed.increment();
+            reject(response, 503, shedRetryAfter, "Server is overloaded, retry later");
+            return;
+        }
+
+        var decision = addressLimiter.tryAcquire(request.getRemoteAddr());
+        String user = request.getHeader("X-User-Id");
+        if (decision.allowed() && user != null) {
+            decision = userLimiter.tryAcquire(user.trim());
+        }
+        if (!decision.allowed()) {
+            rateLimited.increment();
+            reject(response, 429, decision.retryAfter(), "Rate limit exceeded");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, int status, Duration retryAfter, String message) throws IOException {
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        response.setStatus(status);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        mapper.writeValue(response.getOutputStream(), new ApiError(message));
+    }
+
+    private static Counter throttled(MeterRegistry registry, String reason) {
+        return Counter.builder("todo.http.throttled")
+                .description("Requests rejected before reaching a controller")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,52 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+// One bucket per key, refilled lazily from elapsed time. Each bucket is an immutable state
+// swapped by CAS, so callers never block each other; idle keys age out of the bounded map.
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private record State(double tokens, long refilledAt) {}
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final Cache<String, AtomicReference<State>> buckets;
+    private final LongSupplier nanoTime;
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, Duration idleExpiry, long maxKeys) {
+        this(capacity, refillPerSecond, idleExpiry, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, double refillPerSecond, Duration idleExpiry, long maxKeys,
+                           LongSupplier nanoTime) {
+        this.capacity = capacity;
+        this.nanoTime = nanoTime;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleExpiry)
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    @Override
+    public Decision tryAcquire(String key) {
+        var bucket = buckets.get(key, k -> new AtomicReference<>(new State(capacity, nanoTime.getAsLong())));
+        while (true) {
+            State current = bucket.get();
+            long now = nanoTime.getAsLong();
+            double tokens = Math.min(capacity, current.tokens() + (now - current.refilledAt()) * tokensPerNano);
+            if (tokens < 1) {
+                long nanosToNext = (long) Math.ceil((1 - tokens) / tokensPerNano);
+                return new Decision(false, Duration.ofNanos(nanosToNext));
+            }
+            if (bucket.compareAndSet(current, new State(tokens - 1, now))) {
+                return Decision.ALLOW;
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class WebConfig {
+
+    // Users carry no version/updated_at to derive a validator from, so hash the rendered body:
+    // saves the transfer (304) though not the lookup. Task endpoints set their own ETags.
+    @Bean
+    FilterRegistrationBean<ShallowEtagHeaderFilter> userEtagFilter() {
+        var registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/users/*");
+        return registration;
+    }
+}
@@ -1,6 +1,7 @@
 package dev.sghimire.TodoListApp_Java.controller;
 
 import dev.sghimire.TodoListApp_Java.dto.CategoryRequest;
+import dev.sghimire.TodoListApp_Java.dto.CategoryStatsResponse;
 import dev.sghimire.TodoListApp_Java.model.Category;
 import dev.sghimire.TodoListApp_Java.service.CategoryService;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +28,11 @@ public class CategoryController {
         return service.findAll();
     }
 
+    @GetMapping("/stats")
+    public List<CategoryStatsResponse> stats() {
+        return service.stats();
+    }
+
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Integer id) {
         service.delete(id);
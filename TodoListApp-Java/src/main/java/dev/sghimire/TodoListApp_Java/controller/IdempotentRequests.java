@@ -0,0 +1,106 @@
+package dev.sghimire.TodoListApp_Java.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sghimire.TodoListApp_Java.service.IdempotencyStore;
+import dev.sghimire.TodoListApp_Java.service.IdempotencyStore.StoredResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+// Idempotency-Key handling for create endpoints. The first request with a key runs and its
+// response is stored; retries with the same key and body get that response back (marked
+// Idempotent-Replayed: true) instead of creating a duplicate. Failed requests are not
+// stored, so they can be retried with the same key.
+@Component
+class IdempotentRequests {
+
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper mapper;
+
+    IdempotentRequests(IdempotencyStore store, ObjectMapper mapper) {
+        this.store = store;
+        this.mapper = mapper;
+    }
+
+    <T> ResponseEntity<T> execute(String scope, String key, Integer callerId, Object request,
+                                  Class<T> responseType, Supplier<T> action) {
+        if (key == null) return ResponseEntity.ok(action.get());
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters.");
+        }
+
+        var claim = store.claim(scope, key, fingerprint(callerId, request));
+        switch (claim.outcome()) {
+            case REPLAY -> {
+                return ResponseEntity.status(claim.response().status())
+                        .header(REPLAYED_HEADER, "true")
+                        .body(read(claim.response().body(), responseType));
+            }
+            case IN_PROGRESS -> throw new IdempotencyKeyConflictException(409,
+                    "A request with this Idempotency-Key is still being processed.");
+            case MISMATCH -> throw new IdempotencyKeyConflictException(422,
+                    "Idempotency-Key was already used with a different request.");
+            case ACQUIRED -> { }
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            store.release(scope, key);
+            throw e;
+        }
+        store.complete(scope, key, new StoredResponse(200, write(result)));
+        return ResponseEntity.ok(result);
+    }
+
+    // Same key is only a replay for the same caller sending the same body
+    private String fingerprint(Integer callerId, Object request) {
+        try {
+            var sha = MessageDigest.getInstance("SHA-256");
+            sha.update(String.valueOf(callerId).getBytes(StandardCharsets.UTF_8));
+            sha.update((byte) 0);
+            sha.update(mapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(sha.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String write(Object body) {
+        try {
+            return mapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T read(String body, Class<T> type) {
+        try {
+            return mapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class IdempotencyKeyConflictException extends RuntimeException {
+
+        private final int status;
+
+        IdempotencyKeyConflictException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        int getStatus() { return status; }
+    }
+}
@@ -2,37 +2,123 @@ package dev.sghimire.TodoListApp_Java.controller;
 
 import dev.sghimire.TodoListApp_Java.dto.*;
 import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import dev.sghimire.TodoListApp_Java.repository.TaskProperty;
+import dev.sghimire.TodoListApp_Java.service.ChangeTokenExpiredException;
+import dev.sghimire.TodoListApp_Java.service.ExportCapacityExceededException;
+import dev.sghimire.TodoListApp_Java.service.TaskChangeFeed;
+import dev.sghimire.TodoListApp_Java.service.TaskEventStream;
+import dev.sghimire.TodoListApp_Java.service.TaskExporter;
+import dev.sghimire.TodoListApp_Java.service.TaskImportAbortedException;
+import dev.sghimire.TodoListApp_Java.service.TaskImporter;
+import dev.sghimire.TodoListApp_Java.service.TaskJournal;
+import dev.sghimire.TodoListApp_Java.service.TaskSearchService;
 import dev.sghimire.TodoListApp_Java.service.TaskService;
+import dev.sghimire.TodoListApp_Java.service.TaskUpdateConflictException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.OptimisticLockException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
     private final TaskService service;
+    private final TaskEventStream stream;
+    private final TaskSearchService search;
+    private final TaskExporter exporter;
+    private final TaskImporter importer;
+    private final TaskJournal journal;
+    private final IdempotentRequests idempotent;
+    private final TaskChangeFeed changes;
 
-    public TaskController(TaskService service) {
+    public TaskController(TaskService service, TaskEventStream stream, TaskSearchService search,
+                          TaskExporter exporter, TaskImporter importer, TaskJournal journal,
+                          IdempotentRequests idempotent, TaskChangeFeed changes) {
         this.service = service;
+        this.stream = stream;
+        this.search = search;
+        this.exporter = exporter;
+        this.importer = importer;
+        this.journal = journal;
+        this.idempotent = idempotent;
+        this.changes = changes;
     }
 
     @PostMapping
-    public TaskResponse create(@RequestBody TaskCreateRequest req,
-                               @RequestHeader(value = "X-User-Id", required = false) Integer creatorId) {
-        return service.create(req, creatorId);
+    public ResponseEntity<TaskResponse> create(@RequestBody TaskCreateRequest req,
+                                               @RequestHeader(value = "X-User-Id", required = false) Integer creatorId,
+                                               @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return idempotent.execute("tasks", idempotencyKey, creatorId, req, TaskResponse.class,
+                () -> service.create(req, creatorId));
     }
 
+    @PostMapping("/batch")
+    public List<BatchItemResult> createBatch(@RequestBody List<TaskCreateRequest> reqs,
+                                             @RequestHeader(value = "X-User-Id", required = false) Integer creatorId) {
+        return service.createBatch(reqs, creatorId);
+    }
+
+    @PutMapping("/batch")
+    public List<BatchItemResult> updateBatch(@RequestBody List<TaskBatchUpdateRequest> reqs) {
+        return service.updateBatch(reqs);
+    }
+
+    // If-Match: "<id>-<version>" (the ETag from a GET) can stand in for the body version
     @PutMapping("/{id}")
-    public TaskResponse update(@PathVariable Integer id, @RequestBody TaskUpdateRequest req) {
-        return service.update(id, req);
+    public ResponseEntity<TaskResponse> update(@PathVariable Integer id, @RequestBody TaskUpdateRequest req,
+                                               @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                               @RequestParam(defaultValue = "false") boolean merge) {
+        if (ifMatch == null) {
+            return withEtag(merge ? service.updateMerging(id, req) : service.update(id, req));
+        }
+        Integer expected = TaskEtags.versionFromIfMatch(ifMatch, id); // null for "*"
+        if (merge && expected != null) {
+            // the If-Match version is the merge base; unresolved conflicts are a 409 with the diff
+            return withEtag(service.updateMerging(id, req.withVersion(expected)));
+        }
+        try {
+            // "*" matches any existing version, so a merge against it has nothing to merge
+            return withEtag(expected != null ? service.update(id, req.withVersion(expected))
+                    : service.updateAnyVersion(id, req));
+        } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
+            throw new TaskEtags.PreconditionFailedException("Task " + id + " has changed since " + ifMatch);
+        }
+    }
+
+    // Strong ETag; a matching If-None-Match costs one PK lookup of the version column
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskResponse> get(@PathVariable Integer id, WebRequest request) {
+        if (request.checkNotModified(TaskEtags.strong(id, service.currentVersion(id)))) {
+            return null; // 304 already written
+        }
+        return withEtag(service.get(id));
+    }
+
+    // Field-level change log, newest first; page with ?before=<nextCursor>. Written behind the
+    // request path, so a change can take a moment (todo.tasks.journal.linger) to show up here.
+    @GetMapping("/{id}/history")
+    public PageResponse<TaskHistoryEntry> history(@PathVariable Integer id,
+                                                  @RequestParam(required = false) String before,
+                                                  @RequestParam(defaultValue = "20") int limit) {
+        return journal.history(id, before, limit);
     }
 
 //    @GetMapping
@@ -40,17 +126,112 @@ public class TaskController {
 //        return service.list(status);
 //    }
 
+    // Offset mode: ?page=&size=  |  cursor mode: ?after=<nextCursor>&limit=N (no total count)
+    // Accept: application/cbor, application/x-jackson-smile or application/vnd.todo.compact+json
+    // for smaller payloads (MessageConverterConfig); JSON otherwise.
+    // Weak ETag from the list version (one small read); 304 skips the page query entirely
     @GetMapping
-    public PageResponse<TaskResponse> list(
+    public ResponseEntity<PageResponse<TaskResponse>> list(
             @RequestParam(required = false) TaskStatus status,
-            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request
     ) {
-        return service.list(status, pageable);
+        return conditional(request, () -> (after != null || limit != null)
+                ? service.listAfter(status, after, limit != null ? limit : pageable.getPageSize())
+                : service.list(status, pageable));
+    }
+
+    // ?fields=title,status,dueDate (TaskProperty names, id always included): same paging modes
+    // and ETag, but only those columns are selected and serialized
+    @GetMapping(params = "fields")
+    public ResponseEntity<PageResponse<Map<String, Object>>> listFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest request
+    ) {
+        var properties = TaskProperty.parse(fields);
+        return conditional(request, () -> (after != null || limit != null)
+                ? service.listAfter(status, after, limit != null ? limit : pageable.getPageSize(), properties)
+                : service.list(status, pageable, properties));
+    }
+
+    // Delta sync: tasks created/updated and ids deleted since the token from the previous call.
+    // No since = full sync. Keep calling with nextToken while hasMore; 410 means resync from scratch.
+    @GetMapping("/changes")
+    public TaskChangesResponse changes(@RequestParam(required = false) String since,
+                                       @RequestParam(defaultValue = "100") int limit) {
+        return changes.changes(since, limit);
+    }
+
+    // Whole table as NDJSON or CSV, streamed from a DB cursor. Compression is server.compression's,
+    // negotiated on Accept-Encoding like every other response.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        @RequestParam(required = false) TaskStatus status) {
+        var fmt = TaskExporter.Format.parse(format);
+        var slot = exporter.reserve(); // 503 here, before anything is streamed, when exports are full
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fmt.mediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("tasks." + fmt.extension()).build().toString())
+                .body(out -> {
+                    try (slot) {
+                        exporter.export(fmt, status, out);
+                    }
+                });
+    }
+
+    // Bulk load from a CSV (header row required) or NDJSON body; format from ?format= or Content-Type.
+    // Invalid rows are skipped and reported by line number. CSV that cannot be parsed past some
+    // record is a 400 reporting what was imported before it.
+    @PostMapping("/import")
+    public TaskImportResponse importTasks(InputStream body,
+                                          @RequestParam(required = false) String format,
+                                          @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                          @RequestHeader(value = "X-User-Id", required = false) Integer creatorId)
+            throws IOException {
+        TaskExporter.Format fmt = (format != null) ? TaskExporter.Format.parse(format)
+                : (contentType != null && contentType.startsWith("text/csv")) ? TaskExporter.Format.CSV
+                : TaskExporter.Format.NDJSON;
+        return importer.importTasks(fmt, body, creatorId);
+    }
+
+    // Full-text search over title/description, best match first; page with ?after=<nextCursor>
+    @GetMapping("/search")
+    public PageResponse<TaskResponse> search(@RequestParam String q,
+                                             @RequestParam(required = false) TaskStatus status,
+                                             @RequestParam(required = false) Integer categoryId,
+                                             @RequestParam(required = false) Integer assigneeId,
+                                             @RequestParam(required = false) String after,
+                                             @RequestParam(defaultValue = "20") int limit) {
+        return search.search(q, status, categoryId, assigneeId, after, limit);
+    }
+
+    // Live feed of committed creates/updates; with a filter, "removed" when a task leaves it.
+    // Reconnects resume from Last-Event-ID
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) TaskStatus status,
+                             @RequestParam(required = false) Integer assigneeId,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return stream.subscribe(status, assigneeId, lastEventId);
     }
 
     @GetMapping("/assignee/{userId}")
-    public List<TaskResponse> byAssignee(@PathVariable Integer userId) {
-        return service.byAssignee(userId);
+    public ResponseEntity<List<TaskResponse>> byAssignee(@PathVariable Integer userId, WebRequest request) {
+        return conditional(request, () -> service.byAssignee(userId));
+    }
+
+    @GetMapping(path = "/assignee/{userId}", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> byAssigneeFields(@PathVariable Integer userId,
+                                                                      @RequestParam String fields,
+                                                                      WebRequest request) {
+        var properties = TaskProperty.parse(fields);
+        return conditional(request, () -> service.byAssignee(userId, properties));
     }
 
     @GetMapping("/assignee/{userId}/recompute-open-count")
@@ -64,10 +245,63 @@ public class TaskController {
         return ResponseEntity.status(404).body(new ApiError(e.getMessage()));
     }
 
-    @ExceptionHandler({OptimisticLockException.class})
+    @ExceptionHandler({IllegalArgumentException.class})
+    public ResponseEntity<ApiError> handle400(Exception e) {
+        return ResponseEntity.badRequest().body(new ApiError(e.getMessage()));
+    }
+
+    @ExceptionHandler({TaskUpdateConflictException.class})
+    public ResponseEntity<UpdateConflictResponse> handleMergeConflict(TaskUpdateConflictException e) {
+        return ResponseEntity.status(409)
+                .body(new UpdateConflictResponse(e.getMessage(), e.getCurrentVersion(), e.getConflicts()));
+    }
+
+    @ExceptionHandler({OptimisticLockException.class, ObjectOptimisticLockingFailureException.class})
     public ResponseEntity<ApiError> handle409(Exception e) {
         return ResponseEntity.status(409).body(new ApiError("Update conflict: " + e.getMessage()));
     }
+
+    @ExceptionHandler({IdempotentRequests.IdempotencyKeyConflictException.class})
+    public ResponseEntity<ApiError> handleIdempotencyConflict(IdempotentRequests.IdempotencyKeyConflictException e) {
+        return ResponseEntity.status(e.getStatus()).body(new ApiError(e.getMessage()));
+    }
+
+    @ExceptionHandler({ChangeTokenExpiredException.class})
+    public ResponseEntity<ApiError> handle410(Exception e) {
+        return ResponseEntity.status(410).body(new ApiError(e.getMessage()));
+    }
+
+    @ExceptionHandler({ExportCapacityExceededException.class})
+    public ResponseEntity<ApiError> handle503(ExportCapacityExceededException e) {
+        long seconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(seconds))
+                .body(new ApiError(e.getMessage()));
+    }
+
+    @ExceptionHandler({TaskImportAbortedException.class})
+    public ResponseEntity<TaskImportAbortedResponse> handleImportAborted(TaskImportAbortedException e) {
+        return ResponseEntity.badRequest().body(new TaskImportAbortedResponse(e.getMessage(), e.getProgress()));
+    }
+
+    @ExceptionHandler({TaskEtags.PreconditionFailedException.class})
+    public ResponseEntity<ApiError> handle412(Exception e) {
+        return ResponseEntity.status(412).body(new ApiError(e.getMessage()));
+    }
+
+    // Weak list ETag; the body is only read when If-None-Match does not match. Version and body
+    // share one transaction, so both come from the same database.
+    private <T> ResponseEntity<T> conditional(WebRequest request, Supplier<T> body) {
+        return service.withListVersion(version -> {
+            String etag = TaskEtags.weak(version);
+            if (request.checkNotModified(etag)) return null; // 304 already written
+            return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(body.get());
+        });
+    }
+
+    private static ResponseEntity<TaskResponse> withEtag(TaskResponse body) {
+        return ResponseEntity.ok().eTag(TaskEtags.strong(body.id(), body.version())).body(body);
+    }
 }
 
 
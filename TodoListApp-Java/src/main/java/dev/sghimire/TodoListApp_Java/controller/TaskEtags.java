@@ -0,0 +1,41 @@
+package dev.sghimire.TodoListApp_Java.controller;
+
+// ETag formats for tasks:
+//   single task  "<id>-<version>"                 strong: @Version changes on every write
+//   list page    W/"<listVersion>"                weak: no task, user or category written since
+final class TaskEtags {
+
+    private TaskEtags() {}
+
+    static String strong(Integer id, Integer version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    static String weak(long listVersion) {
+        return "W/\"" + Long.toHexString(listVersion) + "\"";
+    }
+
+    // Version named by an If-Match header for this task; null for "*" (any version)
+    static Integer versionFromIfMatch(String ifMatch, Integer id) {
+        var tag = ifMatch.trim();
+        if (tag.equals("*")) return null;
+        if (tag.startsWith("W/")) {
+            throw new IllegalArgumentException("If-Match requires a strong ETag: " + ifMatch);
+        }
+        var prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("ETag " + ifMatch + " does not belong to task " + id);
+        }
+        try {
+            return Integer.valueOf(tag.substring(prefix.length(), tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed ETag: " + ifMatch);
+        }
+    }
+
+    static class PreconditionFailedException extends RuntimeException {
+        PreconditionFailedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package dev.sghimire.TodoListApp_Java.controller;
 import dev.sghimire.TodoListApp_Java.dto.ApiError;
 import dev.sghimire.TodoListApp_Java.dto.UserCreateRequest;
 import dev.sghimire.TodoListApp_Java.dto.UserResponse;
+import dev.sghimire.TodoListApp_Java.dto.UserTaskStatsResponse;
 import dev.sghimire.TodoListApp_Java.dto.UserUpdateRequest;
+import dev.sghimire.TodoListApp_Java.service.TaskService;
 import dev.sghimire.TodoListApp_Java.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.http.ResponseEntity;
@@ -16,14 +18,20 @@ import java.util.List;
 public class UserController {
 
     private final UserService service;
+    private final TaskService tasks;
+    private final IdempotentRequests idempotent;
 
-    public UserController(UserService service) {
+    public UserController(UserService service, TaskService tasks, IdempotentRequests idempotent) {
         this.service = service;
+        this.tasks = tasks;
+        this.idempotent = idempotent;
     }
 
     @PostMapping
-    public UserResponse create(@RequestBody UserCreateRequest req) {
-        return service.create(req);
+    public ResponseEntity<UserResponse> create(@RequestBody UserCreateRequest req,
+                                               @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return idempotent.execute("users", idempotencyKey, null, req, UserResponse.class,
+                () -> service.create(req));
     }
 
     @GetMapping
@@ -36,6 +44,11 @@ public class UserController {
         return service.get(id);
     }
 
+    @GetMapping("/{id}/stats")
+    public UserTaskStatsResponse stats(@PathVariable Integer id) {
+        return tasks.statsForAssignee(id);
+    }
+
     @PutMapping("/{id}")
     public UserResponse update(@PathVariable Integer id, @RequestBody UserUpdateRequest req) {
         return service.update(id, req);
@@ -56,4 +69,9 @@ public class UserController {
     public ResponseEntity<ApiError> handle400(Exception e) {
         return ResponseEntity.badRequest().body(new ApiError(e.getMessage()));
     }
+
+    @ExceptionHandler({IdempotentRequests.IdempotencyKeyConflictException.class})
+    public ResponseEntity<ApiError> handleIdempotencyConflict(IdempotentRequests.IdempotencyKeyConflictException e) {
+        return ResponseEntity.status(e.getStatus()).body(new ApiError(e.getMessage()));
+    }
 }
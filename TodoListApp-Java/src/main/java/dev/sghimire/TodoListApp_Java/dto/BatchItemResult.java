@@ -0,0 +1,23 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// One entry per input item, in request order
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult(
+        int index,
+        Integer id,
+        Outcome outcome,
+        TaskResponse task,   // set on CREATED / UPDATED
+        String error         // set otherwise
+) {
+    public enum Outcome { CREATED, UPDATED, INVALID, NOT_FOUND, CONFLICT }
+
+    public static BatchItemResult ok(int index, Outcome outcome, TaskResponse task) {
+        return new BatchItemResult(index, task.id(), outcome, task, null);
+    }
+
+    public static BatchItemResult failed(int index, Integer id, Outcome outcome, String error) {
+        return new BatchItemResult(index, id, outcome, null, error);
+    }
+}
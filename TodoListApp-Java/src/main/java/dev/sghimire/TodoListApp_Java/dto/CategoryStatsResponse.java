@@ -0,0 +1,13 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+
+import java.util.Map;
+
+public record CategoryStatsResponse(
+        Integer categoryId,             // null for the "uncategorized" entry
+        String name,
+        Map<TaskStatus, Long> counts,   // every status present, zero if none
+        long total,
+        long overdue                    // not COMPLETED and due before today
+) {}
@@ -0,0 +1,24 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+// application/vnd.todo.compact+json: tasks as positional rows under one "columns" header, with
+// category/user names sent once in id -> name tables instead of on every row.
+// Paging fields mirror PageResponse and are absent for plain lists.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CompactTaskPage(
+        List<String> columns,
+        List<Object[]> rows,
+        Map<Integer, String> categories,
+        Map<Integer, String> users,
+        Integer page,
+        Integer size,
+        Long totalElements,
+        Integer totalPages,
+        Boolean first,
+        Boolean last,
+        String nextCursor
+) {}
@@ -0,0 +1,8 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+public record FieldConflict(
+        String field,
+        Object baseValue,       // value at the client's version
+        Object currentValue,    // value now
+        Object requestedValue   // value the client sent
+) {}
@@ -1,13 +1,18 @@
 package dev.sghimire.TodoListApp_Java.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+// totalElements/totalPages are null in cursor mode; nextCursor is null in offset mode
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
         boolean first,
-        boolean last
+        boolean last,
+        String nextCursor
 ) {}
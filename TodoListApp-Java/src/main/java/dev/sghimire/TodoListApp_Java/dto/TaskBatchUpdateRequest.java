@@ -0,0 +1,6 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+public record TaskBatchUpdateRequest(
+        Integer id,
+        TaskUpdateRequest changes   // same shape/semantics as PUT /api/tasks/{id}
+) {}
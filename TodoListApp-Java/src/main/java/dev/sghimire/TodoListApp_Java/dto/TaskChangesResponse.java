@@ -0,0 +1,12 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+import java.util.List;
+
+// One page of GET /api/tasks/changes: upsert "changed" by id, drop "deleted" ids, then call
+// again with since=nextToken (right away while hasMore, later otherwise)
+public record TaskChangesResponse(
+        List<TaskResponse> changed,   // created or updated, oldest change first
+        List<Integer> deleted,
+        String nextToken,
+        boolean hasMore
+) {}
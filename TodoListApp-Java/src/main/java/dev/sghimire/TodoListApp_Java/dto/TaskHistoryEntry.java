@@ -0,0 +1,19 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record TaskHistoryEntry(
+        Integer taskId,
+        Integer version,                    // version the task had after this change
+        String type,                        // CREATED | UPDATED
+        Integer changedBy,                  // X-User-Id of the writer, when sent
+        LocalDateTime changedAt,
+        Map<String, FieldChange> changes    // changed fields only, keyed by JSON field name
+) {
+    // Serialized as a two-element array [from, to] in the API and in storage
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    public record FieldChange(Object from, Object to) {}
+}
@@ -0,0 +1,6 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+public record TaskImportAbortedResponse(
+        String message,
+        TaskImportResponse progress     // what was committed before the import stopped
+) {}
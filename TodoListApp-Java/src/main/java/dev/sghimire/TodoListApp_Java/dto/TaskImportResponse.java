@@ -0,0 +1,14 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+import java.util.List;
+
+public record TaskImportResponse(
+        long read,
+        long imported,
+        long rejected,
+        String loader,                  // "copy" or "batch-insert"
+        long elapsedMs,
+        List<Rejection> rejections      // first todo.tasks.import.max-reported-rejections only
+) {
+    public record Rejection(long line, String error) {}
+}
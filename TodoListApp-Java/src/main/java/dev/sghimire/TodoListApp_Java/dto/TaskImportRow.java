@@ -0,0 +1,17 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// One line of a task import (NDJSON object or CSV row). References are by natural key so
+// exports from another system can be loaded as-is; everything is text until validated.
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TaskImportRow(
+        String title,
+        String description,
+        String status,          // optional, defaults to PENDING
+        @JsonAlias("categoryName")
+        String category,        // category name, case-insensitive
+        String assigneeEmail,   // case-insensitive
+        String dueDate          // yyyy-MM-dd
+) {}
@@ -13,4 +13,8 @@ public record TaskUpdateRequest(
         Integer assigneeId,
         TaskStatus status,
         LocalDate dueDate
-) {}
+) {
+    public TaskUpdateRequest withVersion(Integer version) {
+        return new TaskUpdateRequest(version, title, description, categoryId, assigneeId, status, dueDate);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+import java.util.List;
+
+public record UpdateConflictResponse(
+        String message,
+        Integer currentVersion,
+        List<FieldConflict> conflicts   // empty when the base version is unknown to the server
+) {}
@@ -0,0 +1,12 @@
+package dev.sghimire.TodoListApp_Java.dto;
+
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+
+import java.util.Map;
+
+public record UserTaskStatsResponse(
+        Integer userId,
+        Map<TaskStatus, Long> counts,   // every status present, zero if none
+        long total,
+        long open                       // PENDING, same meaning as recompute-open-count
+) {}
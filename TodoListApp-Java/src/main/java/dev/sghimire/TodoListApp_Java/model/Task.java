@@ -11,8 +11,11 @@ import java.time.LocalDateTime;
 @Table(name = "tasks")
 public class Task {
 
+    // Sequence (not IDENTITY) so Hibernate can batch inserts; pooled optimizer hands out
+    // 50 ids per nextval, which requires tasks_id_seq to be INCREMENT BY 50
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // matches SERIAL
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Integer id;
 
     @Column(nullable = false)
@@ -0,0 +1,11 @@
+package dev.sghimire.TodoListApp_Java.repository;
+
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+
+// Row of a "group by category, status" aggregate; categoryId is null for uncategorized tasks
+public interface CategoryStatusCount {
+    Integer getCategoryId();
+    TaskStatus getStatus();
+    long getTotal();
+    long getOverdue();
+}
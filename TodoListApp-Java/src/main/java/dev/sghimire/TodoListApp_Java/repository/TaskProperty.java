@@ -0,0 +1,76 @@
+package dev.sghimire.TodoListApp_Java.repository;
+
+import dev.sghimire.TodoListApp_Java.model.Task;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+// TaskResponse properties selectable with ?fields= (JSON names). Ids of the referenced rows are
+// read from the FK column; only the *Name properties need a join, to that one table.
+public enum TaskProperty {
+    ID("id", null, "id"),
+    TITLE("title", null, "title"),
+    DESCRIPTION("description", null, "description"),
+    STATUS("status", null, "status"),
+    CATEGORY_ID("categoryId", null, "category.id"),
+    CATEGORY_NAME("categoryName", "category", "name"),
+    ASSIGNEE_ID("assigneeId", null, "assignee.id"),
+    ASSIGNEE_NAME("assigneeName", "assignee", "name"),
+    CREATED_BY_ID("createdById", null, "createdBy.id"),
+    CREATED_BY_NAME("createdByName", "createdBy", "name"),
+    DUE_DATE("dueDate", null, "dueDate"),
+    COMPLETED_AT("completedAt", null, "completedAt"),
+    VERSION("version", null, "version");
+
+    private final String jsonName;
+    private final String join;        // association to left join, or null for a column of tasks
+    private final String attribute;   // path from the join (or the task root)
+
+    TaskProperty(String jsonName, String join, String attribute) {
+        this.jsonName = jsonName;
+        this.join = join;
+        this.attribute = attribute;
+    }
+
+    public String jsonName() { return jsonName; }
+
+    // "id,title,status" -> properties; id is always included (cursors and clients need it)
+    public static Set<TaskProperty> parse(String fields) {
+        var out = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            var trimmed = name.trim();
+            if (trimmed.isEmpty()) continue;
+            out.add(byJsonName(trimmed));
+        }
+        return out;
+    }
+
+    // Sort keys for ?fields= lists: the task's own columns. Checked before the query is built, since
+    // a bad name failing inside the repository comes back as a data-access error (500), not a 400.
+    public static void requireSortable(Sort sort) {
+        for (Sort.Order o : sort) {
+            boolean column = false;
+            for (TaskProperty p : values()) {
+                if (p.join == null && p.attribute.equals(o.getProperty()) && !p.attribute.contains(".")) column = true;
+            }
+            if (!column) throw new IllegalArgumentException("Unknown sort property: " + o.getProperty());
+        }
+    }
+
+    private static TaskProperty byJsonName(String name) {
+        for (TaskProperty p : values()) if (p.jsonName.equals(name)) return p;
+        throw new IllegalArgumentException("Unknown task field: " + name);
+    }
+
+    Path<?> path(Root<Task> task, Map<String, Join<Task, ?>> joins) {
+        Path<?> from = (join == null) ? task : joins.computeIfAbsent(join, j -> task.join(j, JoinType.LEFT));
+        for (String part : attribute.split("\\.")) from = from.get(part);
+        return from;
+    }
+}
@@ -1,22 +1,106 @@
 package dev.sghimire.TodoListApp_Java.repository;
 
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
 import dev.sghimire.TodoListApp_Java.model.Category;
 import dev.sghimire.TodoListApp_Java.model.Task;
 import dev.sghimire.TodoListApp_Java.model.TaskStatus;
 import dev.sghimire.TodoListApp_Java.model.UserAccount;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Integer> {
+public interface TaskRepository extends JpaRepository<Task, Integer>, TaskSparseRepository {
     List<Task> findByAssignee(UserAccount assignee);
     List<Task> findByStatus(TaskStatus status);
     Page<Task> findAll(Pageable pageable);
     Page<Task> findByStatus(TaskStatus status, Pageable pageable);
     List<Task> findByCategoryAndStatus(Category category, TaskStatus status);
     long countByCategory(Category category);
-}
\ No newline at end of file
+    long countByStatus(TaskStatus status);
+
+    @Query("select t.status as status, count(t) as total from Task t where t.assignee.id = :assigneeId group by t.status")
+    List<TaskStatusCount> countByStatusForAssignee(@Param("assigneeId") Integer assigneeId);
+
+    // One pass over tasks for every category's badges; t.category.id reads the FK, no join
+    @Query("""
+            select t.category.id as categoryId, t.status as status, count(t) as total,
+                   sum(case when t.status <> :completed and t.dueDate < :today then 1 else 0 end) as overdue
+            from Task t
+            group by t.category.id, t.status
+            """)
+    List<CategoryStatusCount> countByCategoryAndStatus(@Param("completed") TaskStatus completed,
+                                                       @Param("today") LocalDate today);
+
+    // Batch updates: load tasks with their refs in one select so toDto doesn't lazy-load per row
+    @Query("""
+            select t from Task t
+            left join fetch t.category
+            left join fetch t.assignee
+            left join fetch t.createdBy
+            where t.id in :ids
+            """)
+    List<Task> findAllWithRefsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // --- read path: one joined select straight into TaskResponse (no lazy loads per row) ---
+    String RESPONSE_SELECT = """
+            select new dev.sghimire.TodoListApp_Java.dto.TaskResponse(
+                t.id, t.title, t.description, t.status,
+                c.id, c.name, a.id, a.name, cb.id, cb.name,
+                t.dueDate, t.completedAt, t.version)
+            from Task t
+            left join t.category c
+            left join t.assignee a
+            left join t.createdBy cb
+            """;
+
+    @Query(value = RESPONSE_SELECT,
+            countQuery = "select count(t) from Task t")
+    Page<TaskResponse> findAllResponses(Pageable pageable);
+
+    @Query(value = RESPONSE_SELECT + " where t.status = :status",
+            countQuery = "select count(t) from Task t where t.status = :status")
+    Page<TaskResponse> findResponsesByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + " order by t.id")
+    List<TaskResponse> findAllResponses();
+
+    @Query(RESPONSE_SELECT + " where t.status = :status order by t.id")
+    List<TaskResponse> findResponsesByStatus(@Param("status") TaskStatus status);
+
+    @Query(RESPONSE_SELECT + " where a.id = :assigneeId order by t.id")
+    List<TaskResponse> findResponsesByAssigneeId(@Param("assigneeId") Integer assigneeId);
+
+    // --- keyset paging: seek on the PK instead of OFFSET, no count(*) ---
+    @Query(RESPONSE_SELECT + " where t.id < :before order by t.id desc")
+    List<TaskResponse> findResponsesBefore(@Param("before") Integer before, Limit limit);
+
+    @Query(RESPONSE_SELECT + " where t.status = :status and t.id < :before order by t.id desc")
+    List<TaskResponse> findResponsesByStatusBefore(@Param("status") TaskStatus status,
+                                                   @Param("before") Integer before,
+                                                   Limit limit);
+
+    // --- conditional GET: cheap validators checked before loading/serializing anything ---
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Integer> findVersionById(@Param("id") Integer id);
+
+    @Query(RESPONSE_SELECT + " where t.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") Integer id);
+
+    @Query(RESPONSE_SELECT + " where t.id in :ids")
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // Moves on every committed write to tasks, users or categories (V9 triggers): one validator
+    // for every list, since list rows carry category and user names
+    @Query(value = "SELECT CAST(sum(version) AS bigint) FROM task_list_version", nativeQuery = true)
+    long listVersion();
+}
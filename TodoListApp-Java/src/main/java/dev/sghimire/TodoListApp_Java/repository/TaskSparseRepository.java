@@ -0,0 +1,17 @@
+package dev.sghimire.TodoListApp_Java.repository;
+
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Sparse fieldsets: select only the requested columns (and joins) as property -> value rows
+public interface TaskSparseRepository {
+
+    // Optional filters are ignored when null; beforeId is the keyset cursor (id < beforeId).
+    // limit <= 0 means no limit.
+    List<Map<String, Object>> findSparse(Set<TaskProperty> fields, TaskStatus status, Integer assigneeId,
+                                         Integer beforeId, Sort sort, long offset, int limit);
+}
@@ -0,0 +1,68 @@
+package dev.sghimire.TodoListApp_Java.repository;
+
+import dev.sghimire.TodoListApp_Java.model.Task;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Criteria tuple query built from the requested properties, so e.g. ?fields=title,status,dueDate
+// is a single-table select of four columns with no joins to categories/users.
+class TaskSparseRepositoryImpl implements TaskSparseRepository {
+
+    private final EntityManager em;
+
+    TaskSparseRepositoryImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    @Override
+    public List<Map<String, Object>> findSparse(Set<TaskProperty> fields, TaskStatus status, Integer assigneeId,
+                                                Integer beforeId, Sort sort, long offset, int limit) {
+        var cb = em.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var task = query.from(Task.class);
+        var joins = new HashMap<String, Join<Task, ?>>();
+
+        var properties = List.copyOf(fields); // EnumSet: declaration order, same as TaskResponse
+        var selections = new ArrayList<Selection<?>>(properties.size());
+        for (TaskProperty p : properties) selections.add(p.path(task, joins).alias(p.jsonName()));
+        query.multiselect(selections);
+
+        var where = new ArrayList<Predicate>();
+        if (status != null) where.add(cb.equal(task.get("status"), status));
+        if (assigneeId != null) where.add(cb.equal(task.get("assignee").get("id"), assigneeId));
+        if (beforeId != null) where.add(cb.lessThan(task.get("id"), beforeId));
+        query.where(where.toArray(Predicate[]::new));
+
+        var orders = new ArrayList<Order>();
+        for (Sort.Order o : sort) {
+            var path = task.get(o.getProperty()); // callers check TaskProperty.requireSortable first
+            orders.add(o.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        query.orderBy(orders);
+
+        var typed = em.createQuery(query);
+        if (offset > 0) typed.setFirstResult(Math.toIntExact(offset));
+        if (limit > 0) typed.setMaxResults(limit);
+
+        var rows = new ArrayList<Map<String, Object>>();
+        for (Tuple tuple : typed.getResultList()) {
+            var row = new LinkedHashMap<String, Object>(properties.size() * 2);
+            for (int i = 0; i < properties.size(); i++) row.put(properties.get(i).jsonName(), tuple.get(i));
+            rows.add(row);
+        }
+        return rows;
+    }
+}
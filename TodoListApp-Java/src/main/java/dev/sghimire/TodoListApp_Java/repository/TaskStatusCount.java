@@ -0,0 +1,9 @@
+package dev.sghimire.TodoListApp_Java.repository;
+
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+
+// Row of a "group by status" aggregate
+public interface TaskStatusCount {
+    TaskStatus getStatus();
+    long getTotal();
+}
@@ -1,24 +1,46 @@
 package dev.sghimire.TodoListApp_Java.service;
 
+import dev.sghimire.TodoListApp_Java.config.CacheConfig;
+import dev.sghimire.TodoListApp_Java.config.RecentWriters;
 import dev.sghimire.TodoListApp_Java.dto.CategoryRequest;
+import dev.sghimire.TodoListApp_Java.dto.CategoryStatsResponse;
 import dev.sghimire.TodoListApp_Java.model.Category;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
 import dev.sghimire.TodoListApp_Java.repository.CategoryRepository;
+import dev.sghimire.TodoListApp_Java.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
+@Timed("todo.service")
 public class CategoryService {
 
     private final CategoryRepository categories;
+    private final ReferenceDataCache refData;
+    private final TaskRepository tasks;
+    private final RecentWriters recentWriters;
 
-    public CategoryService(CategoryRepository categories) {
+    public CategoryService(CategoryRepository categories, ReferenceDataCache refData, TaskRepository tasks,
+                           RecentWriters recentWriters) {
         this.categories = categories;
+        this.refData = refData;
+        this.tasks = tasks;
+        this.recentWriters = recentWriters;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CATEGORY_LIST, allEntries = true)
     public Category create(CategoryRequest req) {
         // Normalize + basic validation
         String name = req.name() == null ? "" : req.name().trim();
@@ -27,20 +49,60 @@ public class CategoryService {
         }
 
         // De-dupe by case-insensitive name
-        return categories.findByNameIgnoreCase(name)
+        return refData.categoryByName(name)
                 .orElseGet(() -> {
                     var c = new Category();
                     c.setName(name);
+                    recentWriters.recordWrite();
                     return categories.save(c);
                 });
     }
 
     @Transactional(readOnly = true)
     public List<Category> findAll() {
-        return categories.findAll();
+        return refData.allCategories();
+    }
+
+    // Badge counts for every category (including empty ones, from the cached list) from one
+    // grouped aggregate; tasks without a category are reported last with a null id
+    @Transactional(readOnly = true)
+    public List<CategoryStatsResponse> stats() {
+        var byCategory = new HashMap<Integer, EnumMap<TaskStatus, Long>>();
+        var overdue = new HashMap<Integer, Long>();
+        for (var row : tasks.countByCategoryAndStatus(TaskStatus.COMPLETED, LocalDate.now())) {
+            byCategory.computeIfAbsent(row.getCategoryId(), id -> zeroCounts()).put(row.getStatus(), row.getTotal());
+            overdue.merge(row.getCategoryId(), row.getOverdue(), Long::sum);
+        }
+
+        var result = new ArrayList<CategoryStatsResponse>();
+        for (Category c : refData.allCategories()) {
+            result.add(stats(c.getId(), c.getName(), byCategory.get(c.getId()), overdue));
+        }
+        if (byCategory.containsKey(null)) {
+            result.add(stats(null, null, byCategory.get(null), overdue));
+        }
+        return result;
+    }
+
+    private static CategoryStatsResponse stats(Integer id, String name, EnumMap<TaskStatus, Long> counts,
+                                               Map<Integer, Long> overdue) {
+        if (counts == null) counts = zeroCounts();
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new CategoryStatsResponse(id, name, counts, total, overdue.getOrDefault(id, 0L));
+    }
+
+    private static EnumMap<TaskStatus, Long> zeroCounts() {
+        var counts = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        for (TaskStatus s : TaskStatus.values()) counts.put(s, 0L);
+        return counts;
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES_BY_NAME, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY_LIST, allEntries = true)
+    })
     public void delete(Integer id) {
         var cat = categories.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Category not found: " + id));
@@ -51,5 +113,6 @@ public class CategoryService {
         // }
 
         categories.delete(cat);
+        recentWriters.recordWrite();
     }
 }
@@ -0,0 +1,9 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+// The deletes a change token would need have been purged; the client must resync from scratch
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    public ChangeTokenExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,122 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 output: fields containing a comma, quote or line break are quoted, quotes doubled;
+// null is an empty field and "" an empty string (Postgres COPY reads the two apart).
+// RecordReader parses the same format one record at a time.
+public final class Csv {
+
+    private Csv() {}
+
+    public static void writeRow(Writer out, Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) out.write(',');
+            writeField(out, fields[i]);
+        }
+        out.write("\r\n");
+    }
+
+    static void writeField(Writer out, Object value) throws IOException {
+        if (value == null) return;
+        String s = value.toString();
+        if (!s.isEmpty() && !needsQuoting(s)) {
+            out.write(s);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"') out.write('"');
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean needsQuoting(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+        }
+        return false;
+    }
+
+    // The input is not valid CSV; nothing after it can be read reliably
+    public static final class MalformedCsvException extends IOException {
+        public MalformedCsvException(String message) {
+            super(message);
+        }
+    }
+
+    public static final class RecordReader {
+
+        private final Reader in;
+        private long line = 1;          // line the next record starts on
+        private long recordLine;
+        private int peeked = -2;
+
+        public RecordReader(Reader in) {
+            this.in = in;
+        }
+
+        // Line number (1-based) where the record last returned by next() started
+        public long line() { return recordLine; }
+
+        // Next record's fields, or null at end of input. Quoted fields may span lines.
+        public List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) return null;
+            recordLine = line;
+
+            var fields = new ArrayList<String>();
+            var field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new MalformedCsvException("Unterminated quoted field starting on line " + recordLine);
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') field.append('"');
+                        else { quoted = false; c = next; continue; }
+                    } else {
+                        if (c == '\n') line++;
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r' && peek() == '\n') read();
+                    if (c != -1) line++;
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (peeked != -2) {
+                int c = peeked;
+                peeked = -2;
+                return c;
+            }
+            return in.read();
+        }
+
+        private int peek() throws IOException {
+            if (peeked == -2) peeked = in.read();
+            return peeked;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import java.time.Duration;
+
+// Every export slot is taken; the client should retry after the given delay
+public class ExportCapacityExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ExportCapacityExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() { return retryAfter; }
+}
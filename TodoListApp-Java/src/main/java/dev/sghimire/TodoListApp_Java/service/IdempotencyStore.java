@@ -0,0 +1,24 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+// Remembers the outcome of requests sent with an Idempotency-Key. Selected by
+// todo.idempotency.store: "memory" (per instance, bounded) or "jdbc" (shared table).
+public interface IdempotencyStore {
+
+    record StoredResponse(int status, String body) {}
+
+    enum Outcome {
+        ACQUIRED,       // first time seen: caller runs the request, then complete() or release()
+        REPLAY,         // finished before: return response
+        IN_PROGRESS,    // same key still running elsewhere
+        MISMATCH        // key reused with a different request
+    }
+
+    record Claim(Outcome outcome, StoredResponse response) {}
+
+    Claim claim(String scope, String key, String fingerprint);
+
+    void complete(String scope, String key, StoredResponse response);
+
+    // The request failed; forget the key so a retry runs again
+    void release(String scope, String key);
+}
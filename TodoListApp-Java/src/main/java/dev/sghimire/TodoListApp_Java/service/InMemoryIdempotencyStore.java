@@ -0,0 +1,47 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConditionalOnProperty(prefix = "todo.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private record Key(String scope, String key) {}
+
+    private record Entry(String fingerprint, StoredResponse response) {}   // response null: in progress
+
+    private final Cache<Key, Entry> entries;
+
+    public InMemoryIdempotencyStore(@Value("${todo.idempotency.ttl:24h}") Duration ttl,
+                                    @Value("${todo.idempotency.max-keys:100000}") long maxKeys) {
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    @Override
+    public Claim claim(String scope, String key, String fingerprint) {
+        Entry existing = entries.asMap().putIfAbsent(new Key(scope, key), new Entry(fingerprint, null));
+        if (existing == null) return new Claim(Outcome.ACQUIRED, null);
+        if (!existing.fingerprint().equals(fingerprint)) return new Claim(Outcome.MISMATCH, null);
+        if (existing.response() == null) return new Claim(Outcome.IN_PROGRESS, null);
+        return new Claim(Outcome.REPLAY, existing.response());
+    }
+
+    @Override
+    public void complete(String scope, String key, StoredResponse response) {
+        entries.asMap().computeIfPresent(new Key(scope, key), (k, e) -> new Entry(e.fingerprint(), response));
+    }
+
+    @Override
+    public void release(String scope, String key) {
+        entries.invalidate(new Key(scope, key));
+    }
+}
@@ -0,0 +1,71 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// idempotency_keys table (V6), so replays work whichever instance they land on. A claim is
+// one INSERT ... ON CONFLICT; expired keys, and in-progress claims older than the lease (the
+// instance died mid-request), can be taken over.
+@Component
+@ConditionalOnProperty(prefix = "todo.idempotency", name = "store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private final JdbcTemplate jdbc;
+    private final long ttlSeconds;
+    private final long leaseSeconds;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbc,
+                                @Value("${todo.idempotency.ttl:24h}") Duration ttl,
+                                @Value("${todo.idempotency.lease:1m}") Duration lease) {
+        this.jdbc = jdbc;
+        this.ttlSeconds = ttl.toSeconds();
+        this.leaseSeconds = lease.toSeconds();
+    }
+
+    @Override
+    public Claim claim(String scope, String key, String fingerprint) {
+        int inserted = jdbc.update("""
+                INSERT INTO idempotency_keys (scope, idem_key, fingerprint) VALUES (?, ?, ?)
+                ON CONFLICT (scope, idem_key) DO UPDATE
+                  SET fingerprint = EXCLUDED.fingerprint, response_status = NULL, response_body = NULL, created_at = now()
+                  WHERE idempotency_keys.created_at < now() - make_interval(secs => ?)
+                     OR (idempotency_keys.response_status IS NULL
+                         AND idempotency_keys.created_at < now() - make_interval(secs => ?))
+                """, scope, key, fingerprint, ttlSeconds, leaseSeconds);
+        if (inserted == 1) return new Claim(Outcome.ACQUIRED, null);
+
+        return jdbc.query("""
+                        SELECT fingerprint, response_status, response_body FROM idempotency_keys
+                        WHERE scope = ? AND idem_key = ?
+                        """,
+                rs -> {
+                    if (!rs.next()) return new Claim(Outcome.IN_PROGRESS, null); // released meanwhile; let the client retry
+                    if (!rs.getString("fingerprint").equals(fingerprint)) return new Claim(Outcome.MISMATCH, null);
+                    Integer status = rs.getObject("response_status", Integer.class);
+                    if (status == null) return new Claim(Outcome.IN_PROGRESS, null);
+                    return new Claim(Outcome.REPLAY, new StoredResponse(status, rs.getString("response_body")));
+                },
+                scope, key);
+    }
+
+    @Override
+    public void complete(String scope, String key, StoredResponse response) {
+        jdbc.update("UPDATE idempotency_keys SET response_status = ?, response_body = ? WHERE scope = ? AND idem_key = ?",
+                response.status(), response.body(), scope, key);
+    }
+
+    @Override
+    public void release(String scope, String key) {
+        jdbc.update("DELETE FROM idempotency_keys WHERE scope = ? AND idem_key = ? AND response_status IS NULL", scope, key);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.idempotency.cleanup-interval:10m}")
+    public void purgeExpired() {
+        jdbc.update("DELETE FROM idempotency_keys WHERE created_at < now() - make_interval(secs => ?)", ttlSeconds);
+    }
+}
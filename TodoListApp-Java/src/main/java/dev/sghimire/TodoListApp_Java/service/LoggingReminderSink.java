@@ -0,0 +1,22 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void deliver(List<TaskReminder> batch) {
+        for (TaskReminder r : batch) {
+            log.info("{} task {} '{}' due {} (assignee {})",
+                    r.overdue() ? "Overdue" : "Due", r.taskId(), r.title(), r.dueDate(),
+                    r.assigneeEmail() != null ? r.assigneeEmail() : "none");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.repository.TaskRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// tsvector/GIN search (see V3 migration): ids + ranks from one native query, then the
+// TaskResponse projection for just that page
+@Component
+public class PostgresTaskSearchIndex implements TaskSearchIndex {
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TaskRepository tasks;
+
+    public PostgresTaskSearchIndex(NamedParameterJdbcTemplate jdbc, TaskRepository tasks) {
+        this.jdbc = jdbc;
+        this.tasks = tasks;
+    }
+
+    @Override
+    public List<Hit> search(Query query, Float afterRank, Integer afterId, int limit) {
+        var params = new MapSqlParameterSource("q", query.text()).addValue("limit", limit);
+        var sql = new StringBuilder("""
+                SELECT id, rank FROM (
+                  SELECT t.id, ts_rank(t.search_vector, q) AS rank
+                  FROM tasks t, websearch_to_tsquery('english', :q) q
+                  WHERE t.search_vector @@ q
+                """);
+        if (query.status() != null) {
+            sql.append(" AND t.status = CAST(:status AS task_status)");
+            params.addValue("status", query.status().name());
+        }
+        if (query.categoryId() != null) {
+            sql.append(" AND t.category_id = :categoryId");
+            params.addValue("categoryId", query.categoryId());
+        }
+        if (query.assigneeId() != null) {
+            sql.append(" AND t.assignee_id = :assigneeId");
+            params.addValue("assigneeId", query.assigneeId());
+        }
+        sql.append(") hits");
+        if (afterRank != null && afterId != null) {
+            sql.append(" WHERE rank < :afterRank OR (rank = :afterRank AND id < :afterId)");
+            params.addValue("afterRank", afterRank).addValue("afterId", afterId);
+        }
+        sql.append(" ORDER BY rank DESC, id DESC LIMIT :limit");
+
+        record Ranked(int id, float rank) {}
+        var ranked = jdbc.query(sql.toString(), params,
+                (rs, i) -> new Ranked(rs.getInt("id"), rs.getFloat("rank")));
+        if (ranked.isEmpty()) return List.of();
+
+        var byId = tasks.findResponsesByIdIn(ranked.stream().map(Ranked::id).toList()).stream()
+                .collect(Collectors.toMap(TaskResponse::id, Function.identity()));
+        return ranked.stream()
+                .filter(r -> byId.containsKey(r.id())) // deleted between the two queries
+                .map(r -> new Hit(byId.get(r.id()), r.rank()))
+                .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.config.CacheConfig;
+import dev.sghimire.TodoListApp_Java.model.Category;
+import dev.sghimire.TodoListApp_Java.model.UserAccount;
+import dev.sghimire.TodoListApp_Java.repository.CategoryRepository;
+import dev.sghimire.TodoListApp_Java.repository.UserAccountRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+// Read-through cache for users/categories. Returned entities are detached and shared:
+// use them as references or for reads only; load via the repository to modify.
+@Component
+public class ReferenceDataCache {
+
+    private final UserAccountRepository users;
+    private final CategoryRepository categories;
+
+    public ReferenceDataCache(UserAccountRepository users, CategoryRepository categories) {
+        this.users = users;
+        this.categories = categories;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.USERS, unless = "#result == null")
+    public Optional<UserAccount> user(Integer id) {
+        return users.findById(id);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, unless = "#result == null")
+    public Optional<Category> category(Integer id) {
+        return categories.findById(id);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES_BY_NAME, key = "#name.toLowerCase()", unless = "#result == null")
+    public Optional<Category> categoryByName(String name) {
+        return categories.findByNameIgnoreCase(name);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.CATEGORY_LIST, key = "'all'")
+    public List<Category> allCategories() {
+        return List.copyOf(categories.findAll());
+    }
+}
@@ -0,0 +1,11 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import java.util.List;
+
+// Where claimed reminders go. Called after the claim has committed: throwing releases the claim,
+// so the batch is picked up again on a later poll. A crash between the commit and delivery
+// loses that batch's reminders.
+public interface ReminderSink {
+
+    void deliver(List<TaskReminder> batch);
+}
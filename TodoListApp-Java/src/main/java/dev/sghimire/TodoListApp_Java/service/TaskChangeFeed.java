@@ -0,0 +1,168 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.TaskChangesResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+// Delta sync for offline clients. Two keyset streams, each with its own position in the token:
+//   tasks       (updated_at, id)   created/updated rows, idx_tasks_updated_at_id
+//   tombstones  (deleted_at, id)   written by the trg_task_tombstone delete trigger
+// updated_at/deleted_at are transaction start times, so a row can become visible after rows
+// stamped later. Only rows older than the horizon are served: the start of the oldest open
+// transaction that has written (holds an xid), capped at database now - skew-margin. Every writer
+// that began before it has finished, so nothing can still appear behind a position (a long import
+// chunk just holds the horizon back), and a position never has to move backwards. Readers such as
+// exports and idle-in-transaction sessions do not hold it back. The margin covers writers that
+// have not written yet but will within the margin, and sessions of other database roles, which
+// pg_stat_activity does not show us.
+@Service
+public class TaskChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    static final int MAX_LIMIT = 500;
+
+    private static final String CHANGED_SQL = "SELECT " + TaskExporter.COLUMNS + ", t.updated_at " + TaskExporter.FROM + """
+            WHERE (t.updated_at, t.id) > (?, ?) AND t.updated_at < ?
+            ORDER BY t.updated_at, t.id
+            LIMIT ?
+            """;
+
+    private static final String DELETED_SQL = """
+            SELECT id, task_id, deleted_at FROM task_tombstones
+            WHERE (deleted_at, id) > (?, ?) AND deleted_at < ?
+            ORDER BY deleted_at, id
+            LIMIT ?
+            """;
+
+    // Our own transaction has started too, but has written nothing the feed could miss
+    private static final String HORIZON_SQL = """
+            SELECT LEAST(localtimestamp - make_interval(secs => ?),
+                         (SELECT min(xact_start)::timestamp FROM pg_stat_activity
+                          WHERE datname = current_database() AND backend_type = 'client backend'
+                            AND backend_xid IS NOT NULL AND pid <> pg_backend_pid()))
+            """;
+
+    // Keyset positions; the zero id sorts before any row at that timestamp
+    record Position(LocalDateTime taskTs, int taskId, LocalDateTime tombstoneTs, long tombstoneId) {
+
+        String encode() {
+            return Cursors.encode(micros(taskTs), taskId, micros(tombstoneTs), tombstoneId);
+        }
+
+        static Position decode(String token) {
+            var parts = Cursors.decode(token, 4);
+            try {
+                return new Position(fromMicros(Long.parseLong(parts[0])), Integer.parseInt(parts[1]),
+                        fromMicros(Long.parseLong(parts[2])), Long.parseLong(parts[3]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid change token: " + token);
+            }
+        }
+
+        private static long micros(LocalDateTime ts) {
+            return ts.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + ts.getNano() / 1_000;
+        }
+
+        private static LocalDateTime fromMicros(long micros) {
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                    Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+        }
+    }
+
+    private record Tombstone(long id, int taskId, LocalDateTime deletedAt) {}
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final Duration skewMargin;
+    private final Duration tombstoneRetention;
+
+    public TaskChangeFeed(DataSource dataSource,
+                          PlatformTransactionManager txManager,
+                          @Value("${todo.tasks.changes.skew-margin:10s}") Duration skewMargin,
+                          @Value("${todo.tasks.changes.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        // Deliberately not read-only: read-only transactions may be routed to a replica
+        // (ReplicaRoutingDataSource), which could still be missing rows from before the horizon
+        this.tx = new TransactionTemplate(txManager);
+        this.skewMargin = skewMargin;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    // since == null: full sync of every task (no deletes to report to a fresh client)
+    public TaskChangesResponse changes(String since, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        Position requested = (since == null || since.isBlank()) ? null : Position.decode(since);
+
+        return tx.execute(status -> {
+            LocalDateTime horizon = jdbc.queryForObject(HORIZON_SQL, LocalDateTime.class, skewMargin.toMillis() / 1000.0);
+            Position from = (requested != null) ? requested : new Position(BEGINNING, 0, horizon, 0);
+            if (from.tombstoneTs().isBefore(horizon.minus(tombstoneRetention))) {
+                throw new ChangeTokenExpiredException(
+                        "Change token is older than the " + tombstoneRetention.toDays() + "-day delete history; resync without since.");
+            }
+
+            var changed = new ArrayList<TaskResponse>();
+            var changedAt = new ArrayList<LocalDateTime>();
+            jdbc.query(CHANGED_SQL, rs -> {
+                changed.add(TaskExporter.toDto(rs));
+                changedAt.add(rs.getObject("updated_at", LocalDateTime.class));
+            }, from.taskTs(), from.taskId(), horizon, size + 1);
+
+            List<Tombstone> tombstones = jdbc.query(DELETED_SQL,
+                    (rs, i) -> new Tombstone(rs.getLong("id"), rs.getInt("task_id"),
+                            rs.getObject("deleted_at", LocalDateTime.class)),
+                    from.tombstoneTs(), from.tombstoneId(), horizon, size + 1);
+
+            boolean moreChanged = changed.size() > size;
+            boolean moreDeleted = tombstones.size() > size;
+            var pageChanged = moreChanged ? changed.subList(0, size) : changed;
+            var pageDeleted = moreDeleted ? tombstones.subList(0, size) : tombstones;
+
+            // A drained stream moves up to the horizon: everything before it has been served,
+            // and idle clients keep a fresh token instead of one that ages past the retention
+            LocalDateTime taskTs = horizon;
+            int taskId = 0;
+            if (moreChanged) {
+                taskTs = changedAt.get(size - 1);
+                taskId = pageChanged.get(size - 1).id();
+            }
+            LocalDateTime tombstoneTs = horizon;
+            long tombstoneId = 0;
+            if (moreDeleted) {
+                var last = pageDeleted.get(size - 1);
+                tombstoneTs = last.deletedAt();
+                tombstoneId = last.id();
+            }
+            var next = new Position(taskTs, taskId, tombstoneTs, tombstoneId);
+
+            return new TaskChangesResponse(List.copyOf(pageChanged),
+                    pageDeleted.stream().map(Tombstone::taskId).toList(),
+                    next.encode(), moreChanged || moreDeleted);
+        });
+    }
+
+    @Scheduled(initialDelayString = "${todo.tasks.changes.purge-interval:1h}",
+               fixedDelayString = "${todo.tasks.changes.purge-interval:1h}")
+    public void purgeTombstones() {
+        int purged = jdbc.update("DELETE FROM task_tombstones WHERE deleted_at < localtimestamp - make_interval(secs => ?)",
+                tombstoneRetention.toSeconds());
+        if (purged > 0) log.info("Purged {} task tombstones older than {}", purged, tombstoneRetention);
+    }
+}
@@ -0,0 +1,15 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+
+import java.util.Map;
+
+// Published by TaskService inside the write transaction; listeners use AFTER_COMMIT.
+// before holds the editable fields as they were prior to an UPDATED (null for CREATED).
+public record TaskChangedEvent(Type type, TaskResponse task, Map<TaskField, Object> before) {
+    public enum Type { CREATED, UPDATED }
+
+    public TaskChangedEvent(Type type, TaskResponse task) {
+        this(type, task, null);
+    }
+}
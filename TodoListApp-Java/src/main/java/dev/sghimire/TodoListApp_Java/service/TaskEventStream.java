@@ -0,0 +1,189 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Fan-out of committed task changes to SSE subscribers.
+// - recent events sit in a ring buffer so a reconnect with Last-Event-ID resumes without gaps
+// - each subscriber has a bounded queue drained on its own virtual thread; a subscriber whose
+//   queue overflows is disconnected (it can resume from the ring buffer) rather than
+//   blocking the publisher or buffering without bound
+// - a filtered subscriber gets a "removed" event when an update takes a task out of its filter
+//   (completed, reassigned), so its live view can drop the row
+// Events are per instance: with several instances, clients only see their instance's writes.
+@Component
+public class TaskEventStream {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEventStream.class);
+
+    // before: editable fields prior to an update, null for creates
+    record Event(long id, TaskChangedEvent.Type type, TaskResponse task, Map<TaskField, Object> before) {}
+
+    private final Event[] ring;
+    private final int subscriberQueue;
+    private final long timeoutMillis;
+    private final Executor executor;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long nextId = 1; // guarded by this
+
+    public TaskEventStream(@Value("${todo.tasks.stream.buffer-size:1024}") int bufferSize,
+                           @Value("${todo.tasks.stream.subscriber-queue:256}") int subscriberQueue,
+                           @Value("${todo.tasks.stream.timeout:30m}") Duration timeout,
+                           @Qualifier("sseExecutor") Executor executor) {
+        this.ring = new Event[bufferSize];
+        this.subscriberQueue = subscriberQueue;
+        this.timeoutMillis = timeout.toMillis();
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener
+    public void on(TaskChangedEvent change) {
+        // Append + fan-out under one lock keeps every subscriber's view in id order;
+        // offers never block, so the critical section stays short.
+        synchronized (this) {
+            var event = new Event(nextId++, change.type(), change.task(), change.before());
+            ring[(int) (event.id() % ring.length)] = event;
+            for (var s : subscribers) s.offer(event);
+        }
+    }
+
+    public SseEmitter subscribe(TaskStatus status, Integer assigneeId, Long lastEventId) {
+        var emitter = new SseEmitter(timeoutMillis);
+        var sub = new Subscriber(emitter, status, assigneeId);
+        emitter.onCompletion(sub::close);
+        emitter.onTimeout(sub::close);
+        emitter.onError(e -> sub.close());
+
+        synchronized (this) {
+            if (lastEventId != null) {
+                var missed = eventsAfter(lastEventId);
+                if (missed == null) {
+                    sub.reset();  // resume point overwritten or from before a restart: client must refetch
+                } else {
+                    missed.forEach(sub::offer);
+                }
+            }
+            subscribers.add(sub);
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // Events with id > lastEventId, or null if some of them have been overwritten or the id was
+    // never issued here (ids restart at 1 after a restart, so an old client's id may be ahead)
+    private List<Event> eventsAfter(long lastEventId) {
+        if (lastEventId >= nextId) return null;
+        long oldest = Math.max(1, nextId - ring.length);
+        if (lastEventId + 1 < oldest) return null;
+        var out = new ArrayList<Event>();
+        for (long id = lastEventId + 1; id < nextId; id++) out.add(ring[(int) (id % ring.length)]);
+        return out;
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final TaskStatus status;
+        private final Integer assigneeId;
+        private final ArrayBlockingQueue<Object> queue = new ArrayBlockingQueue<>(subscriberQueue);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, TaskStatus status, Integer assigneeId) {
+            this.emitter = emitter;
+            this.status = status;
+            this.assigneeId = assigneeId;
+        }
+
+        void offer(Event event) {
+            if (closed) return;
+            if (matches(event.task().status(), event.task().assigneeId())) {
+                enqueue(event);
+            } else if (event.before() != null
+                    && matches((TaskStatus) event.before().get(TaskField.STATUS),
+                               (Integer) event.before().get(TaskField.ASSIGNEE_ID))) {
+                // was in this subscriber's view until now; same id, so resuming stays gap-free
+                enqueue(SseEmitter.event().id(Long.toString(event.id())).name("removed").data(event.task()));
+            }
+        }
+
+        void reset() {
+            enqueue(SseEmitter.event().name("reset").data("resume point expired; reload tasks"));
+        }
+
+        private boolean matches(TaskStatus taskStatus, Integer taskAssigneeId) {
+            return (status == null || status == taskStatus)
+                    && (assigneeId == null || Objects.equals(assigneeId, taskAssigneeId));
+        }
+
+        private void enqueue(Object item) {
+            if (!queue.offer(item)) {
+                log.debug("Dropping slow SSE subscriber ({} queued)", queue.size());
+                closed = true;
+                subscribers.remove(this);
+                emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) return;
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                close();
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                Object item;
+                while (!closed && (item = queue.poll()) != null) {
+                    if (item instanceof Event e) {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(e.id()))
+                                .name(e.type().name().toLowerCase())
+                                .data(e.task()));
+                    } else {
+                        emitter.send((SseEmitter.SseEventBuilder) item);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(); // client went away
+            } finally {
+                scheduled.set(false);
+                if (!closed && !queue.isEmpty()) schedule();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+}
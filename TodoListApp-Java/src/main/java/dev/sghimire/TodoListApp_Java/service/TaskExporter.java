@@ -0,0 +1,192 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Streams every task (optionally one status) straight from a forward-only cursor to the output:
+// Postgres only honours the fetch size inside a transaction, hence the read-only template.
+// Memory stays at one fetch batch plus the writer buffer regardless of table size.
+// Each export pins a pooled connection, an admission permit and a transaction for the whole
+// stream, so at most max-concurrent run at once; callers reserve a Slot before streaming.
+@Component
+public class TaskExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskExporter.class);
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String mediaType() { return mediaType; }
+
+        public String extension() { return extension; }
+
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value + " (use ndjson or csv)");
+            }
+        }
+    }
+
+    // TaskResponse columns and joins; shared with TaskChangeFeed
+    static final String COLUMNS = """
+            t.id, t.title, t.description, t.status, t.category_id, c.name AS category_name,
+            t.assignee_id, a.name AS assignee_name, t.created_by_id, cb.name AS created_by_name,
+            t.due_date, t.completed_at, t.version
+            """;
+    static final String FROM = """
+            FROM tasks t
+            LEFT JOIN categories c ON c.id = t.category_id
+            LEFT JOIN users a ON a.id = t.assignee_id
+            LEFT JOIN users cb ON cb.id = t.created_by_id
+            """;
+    private static final String SELECT = "SELECT " + COLUMNS + FROM;
+
+    private static final String[] CSV_HEADER = {
+            "id", "title", "description", "status", "categoryId", "categoryName", "assigneeId", "assigneeName",
+            "createdById", "createdByName", "dueDate", "completedAt", "version"
+    };
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectWriter json;
+    private final int flushEvery;
+    private final int maxConcurrent;
+    private final Semaphore slots;
+    private final Duration busyRetryAfter;
+
+    public TaskExporter(DataSource dataSource,
+                        PlatformTransactionManager txManager,
+                        ObjectMapper mapper,
+                        @Value("${todo.tasks.export.fetch-size:1000}") int fetchSize,
+                        @Value("${todo.tasks.export.flush-every:5000}") int flushEvery,
+                        @Value("${todo.tasks.export.max-concurrent:4}") int maxConcurrent,
+                        @Value("${todo.tasks.export.busy-retry-after:30s}") Duration busyRetryAfter) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(fetchSize);
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.json = mapper.writerFor(TaskResponse.class);
+        this.flushEvery = flushEvery;
+        this.maxConcurrent = maxConcurrent;
+        this.slots = new Semaphore(maxConcurrent);
+        this.busyRetryAfter = busyRetryAfter;
+    }
+
+    // One running export; closing it frees the slot (closing twice frees it once)
+    public final class Slot implements AutoCloseable {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Slot() {}
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) slots.release();
+        }
+    }
+
+    // Fails fast rather than queueing: a waiting export would hold its request thread for nothing
+    public Slot reserve() {
+        if (!slots.tryAcquire()) {
+            throw new ExportCapacityExceededException(
+                    "Too many exports in progress (max " + maxConcurrent + "); retry later", busyRetryAfter);
+        }
+        return new Slot();
+    }
+
+    // Writes to out but does not close it; returns the number of rows written
+    public long export(Format format, TaskStatus status, OutputStream out) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == Format.CSV) Csv.writeRow(writer, (Object[]) CSV_HEADER);
+
+        long start = System.nanoTime();
+        long[] rows = {0};
+        try {
+            readOnlyTx.executeWithoutResult(tx -> {
+                String sql = SELECT + (status != null ? " WHERE t.status = CAST(? AS task_status)" : "") + " ORDER BY t.id";
+                Object[] args = status != null ? new Object[]{status.name()} : new Object[0];
+                jdbc.query(sql, rs -> {
+                    try {
+                        write(format, toDto(rs), writer);
+                        // push completed chunks to the client instead of holding them in the buffer
+                        if (++rows[0] % flushEvery == 0) writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e); // client went away: stop reading the cursor
+                    }
+                }, args);
+            });
+        } catch (UncheckedIOException e) {
+            log.debug("Task export aborted after {} rows: {}", rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        log.debug("Exported {} tasks as {} in {} ms", rows[0], format, (System.nanoTime() - start) / 1_000_000);
+        return rows[0];
+    }
+
+    private void write(Format format, TaskResponse t, Writer out) throws IOException {
+        if (format == Format.NDJSON) {
+            out.write(json.writeValueAsString(t));
+            out.write('\n');
+        } else {
+            Csv.writeRow(out, t.id(), t.title(), t.description(), t.status(), t.categoryId(), t.categoryName(),
+                    t.assigneeId(), t.assigneeName(), t.createdById(), t.createdByName(), t.dueDate(),
+                    t.completedAt(), t.version());
+        }
+    }
+
+    static TaskResponse toDto(ResultSet rs) throws SQLException {
+        String status = rs.getString("status");
+        Timestamp completedAt = rs.getTimestamp("completed_at");
+        return new TaskResponse(
+                rs.getInt("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                status != null ? TaskStatus.valueOf(status) : null,
+                rs.getObject("category_id", Integer.class),
+                rs.getString("category_name"),
+                rs.getObject("assignee_id", Integer.class),
+                rs.getString("assignee_name"),
+                rs.getObject("created_by_id", Integer.class),
+                rs.getString("created_by_name"),
+                rs.getObject("due_date", LocalDate.class),
+                completedAt != null ? completedAt.toLocalDateTime() : null,
+                rs.getInt("version"));
+    }
+}
@@ -0,0 +1,64 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskUpdateRequest;
+import dev.sghimire.TodoListApp_Java.model.Task;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+// Client-editable task fields, with how to read each from a TaskResponse and a TaskUpdateRequest.
+// (completedAt follows status and is not listed separately.)
+public enum TaskField {
+    TITLE("title", TaskResponse::title, TaskUpdateRequest::title, Task::getTitle),
+    DESCRIPTION("description", TaskResponse::description, TaskUpdateRequest::description, Task::getDescription),
+    STATUS("status", TaskResponse::status, TaskUpdateRequest::status, Task::getStatus),
+    CATEGORY_ID("categoryId", TaskResponse::categoryId, TaskUpdateRequest::categoryId,
+            t -> t.getCategory() != null ? t.getCategory().getId() : null),
+    ASSIGNEE_ID("assigneeId", TaskResponse::assigneeId, TaskUpdateRequest::assigneeId,
+            t -> t.getAssignee() != null ? t.getAssignee().getId() : null),
+    DUE_DATE("dueDate", TaskResponse::dueDate, TaskUpdateRequest::dueDate, Task::getDueDate);
+
+    private final String jsonName;
+    private final Function<TaskResponse, Object> fromResponse;
+    private final Function<TaskUpdateRequest, Object> fromRequest;
+    private final Function<Task, Object> fromEntity;   // ids via the proxy, never a lazy load
+
+    TaskField(String jsonName, Function<TaskResponse, Object> fromResponse, Function<TaskUpdateRequest, Object> fromRequest,
+              Function<Task, Object> fromEntity) {
+        this.jsonName = jsonName;
+        this.fromResponse = fromResponse;
+        this.fromRequest = fromRequest;
+        this.fromEntity = fromEntity;
+    }
+
+    public String jsonName() { return jsonName; }
+
+    public Object get(TaskResponse r) { return fromResponse.apply(r); }
+
+    public Object get(TaskUpdateRequest r) { return fromRequest.apply(r); }
+
+    // PUT semantics: a null field in the request means "leave unchanged"
+    public static Set<TaskField> touchedBy(TaskUpdateRequest req) {
+        var out = EnumSet.noneOf(TaskField.class);
+        for (TaskField f : values()) if (f.get(req) != null) out.add(f);
+        return out;
+    }
+
+    // Current field values of a managed entity, e.g. before applying an update
+    public static Map<TaskField, Object> capture(Task t) {
+        var out = new EnumMap<TaskField, Object>(TaskField.class);
+        for (TaskField f : values()) out.put(f, f.fromEntity.apply(t));
+        return out;
+    }
+
+    public static Set<TaskField> changedBetween(TaskResponse before, TaskResponse after) {
+        var out = EnumSet.noneOf(TaskField.class);
+        for (TaskField f : values()) if (!Objects.equals(f.get(before), f.get(after))) out.add(f);
+        return out;
+    }
+}
@@ -0,0 +1,17 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.TaskImportResponse;
+
+// The upload could not be parsed past some point. Rows before it are imported (or rejected)
+// as reported in progress; the client can resend from the broken record on.
+public class TaskImportAbortedException extends RuntimeException {
+
+    private final TaskImportResponse progress;
+
+    public TaskImportAbortedException(String message, TaskImportResponse progress) {
+        super(message);
+        this.progress = progress;
+    }
+
+    public TaskImportResponse getProgress() { return progress; }
+}
@@ -0,0 +1,344 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.sghimire.TodoListApp_Java.config.RecentWriters;
+import dev.sghimire.TodoListApp_Java.dto.TaskCreateRequest;
+import dev.sghimire.TodoListApp_Java.dto.TaskImportResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskImportRow;
+import dev.sghimire.TodoListApp_Java.model.Category;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import dev.sghimire.TodoListApp_Java.model.UserAccount;
+import dev.sghimire.TodoListApp_Java.repository.CategoryRepository;
+import dev.sghimire.TodoListApp_Java.repository.UserAccountRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Bulk task import: the upload is parsed one row at a time, validated with TaskService's
+// create rules, references resolved by natural key (cached per import), and valid rows loaded
+// in chunks through Postgres COPY, one transaction per chunk. Without a Postgres connection
+// (or with use-copy off) chunks go through a JDBC batch insert instead.
+//
+// Rows bypass the JPA layer, so no TaskChangedEvents are published; the status counter entries
+// of affected assignees are invalidated instead.
+@Component
+public class TaskImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImporter.class);
+
+    // Task.id's @SequenceGenerator allocationSize: ids are taken from tasks_id_seq in the same
+    // (value - 50, value] blocks Hibernate's pooled optimizer uses, so the two never collide
+    private static final int ID_BLOCK = 50;
+
+    private static final String COLUMNS =
+            "id, title, description, status, category_id, assignee_id, created_by_id, due_date, completed_at";
+    private static final String COPY_SQL = "COPY tasks (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_SQL = "INSERT INTO tasks (" + COLUMNS
+            + ") VALUES (?, ?, ?, CAST(? AS task_status), ?, ?, ?, ?, ?)";
+
+    private record Row(long line, String title, String description, TaskStatus status,
+                       Integer categoryId, Integer assigneeId, LocalDate dueDate) {}
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final UserAccountRepository users;
+    private final CategoryRepository categories;
+    private final ReferenceDataCache refData;
+    private final TaskStatusCounter statusCounter;
+    private final RecentWriters recentWriters;
+    private final ObjectReader ndjson;
+    private final int chunkSize;
+    private final boolean useCopy;
+    private final int maxReportedRejections;
+
+    public TaskImporter(DataSource dataSource,
+                        PlatformTransactionManager txManager,
+                        UserAccountRepository users,
+                        CategoryRepository categories,
+                        ReferenceDataCache refData,
+                        TaskStatusCounter statusCounter,
+                        RecentWriters recentWriters,
+                        ObjectMapper mapper,
+                        @Value("${todo.tasks.import.chunk-size:5000}") int chunkSize,
+                        @Value("${todo.tasks.import.use-copy:true}") boolean useCopy,
+                        @Value("${todo.tasks.import.max-reported-rejections:1000}") int maxReportedRejections) {
+        this.dataSource = dataSource;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.tx = new TransactionTemplate(txManager);
+        this.users = users;
+        this.categories = categories;
+        this.refData = refData;
+        this.statusCounter = statusCounter;
+        this.recentWriters = recentWriters;
+        this.ndjson = mapper.readerFor(TaskImportRow.class);
+        this.chunkSize = chunkSize;
+        this.useCopy = useCopy;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    public TaskImportResponse importTasks(TaskExporter.Format format, InputStream body, Integer creatorIdHeader) throws IOException {
+        Integer creatorId = (creatorIdHeader != null) ? creatorIdHeader : 1; // fallback demo user, as in createBatch
+        refData.user(creatorId).orElseThrow(() -> new EntityNotFoundException("User not found: " + creatorId));
+
+        var run = new Run(creatorId);
+        var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024);
+        Csv.MalformedCsvException malformed = null;
+        try {
+            if (format == TaskExporter.Format.CSV) readCsv(reader, run); else readNdjson(reader, run);
+        } catch (Csv.MalformedCsvException e) {
+            malformed = e; // earlier chunks are committed; load the rest before the broken record too
+        }
+        run.flush();
+
+        statusCounter.invalidate(run.assignees);
+        var result = new TaskImportResponse(run.read, run.imported, run.rejected, run.loader(), run.elapsedMs(),
+                List.copyOf(run.rejections));
+        if (malformed != null) {
+            log.info("Task import stopped after {} imported, {} rejected: {}", run.imported, run.rejected,
+                    malformed.getMessage());
+            throw new TaskImportAbortedException(malformed.getMessage(), result);
+        }
+        log.info("Task import done: {} read, {} imported, {} rejected via {} in {} ms",
+                run.read, run.imported, run.rejected, run.loader(), run.elapsedMs());
+        return result;
+    }
+
+    private void readCsv(BufferedReader in, Run run) throws IOException {
+        var csv = new Csv.RecordReader(in);
+        List<String> header = csv.next();
+        if (header == null) return;
+        var index = new HashMap<String, Integer>();
+        for (int i = 0; i < header.size(); i++) index.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        if (!index.containsKey("title")) {
+            throw new IllegalArgumentException("CSV header must include a 'title' column");
+        }
+
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) continue; // blank line
+            var row = new TaskImportRow(
+                    field(record, index, "title"),
+                    field(record, index, "description"),
+                    field(record, index, "status"),
+                    Optional.ofNullable(field(record, index, "category")).orElse(field(record, index, "categoryname")),
+                    field(record, index, "assigneeemail"),
+                    field(record, index, "duedate"));
+            run.accept(csv.line(), row);
+        }
+    }
+
+    private void readNdjson(BufferedReader in, Run run) throws IOException {
+        String text;
+        long line = 0;
+        while ((text = in.readLine()) != null) {
+            line++;
+            if (text.isBlank()) continue;
+            TaskImportRow row;
+            try {
+                row = ndjson.readValue(text);
+            } catch (JsonProcessingException e) {
+                run.reject(line, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            run.accept(line, row);
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> index, String column) {
+        Integer i = index.get(column);
+        if (i == null || i >= fields.size()) return null;
+        String v = fields.get(i);
+        return v.isBlank() ? null : v;
+    }
+
+    // State of one import: lookups, the pending chunk and counters
+    private final class Run {
+        private final Integer creatorId;
+        private final Map<String, Optional<Integer>> userByEmail = new HashMap<>();
+        private final Map<String, Optional<Integer>> categoryByName = new HashMap<>();
+        private final Set<Integer> assignees = new HashSet<>();
+        private final List<Row> chunk = new ArrayList<>();
+        private final List<TaskImportResponse.Rejection> rejections = new ArrayList<>();
+        private final long startedAt = System.nanoTime();
+        private long read, imported, rejected;
+        private Boolean copy; // decided on the first chunk
+
+        Run(Integer creatorId) {
+            this.creatorId = creatorId;
+        }
+
+        void accept(long line, TaskImportRow in) {
+            read++;
+            try {
+                chunk.add(resolve(line, in));
+            } catch (IllegalArgumentException | EntityNotFoundException e) {
+                reject(line, e.getMessage());
+            }
+            if (chunk.size() >= chunkSize) flush();
+        }
+
+        private Row resolve(long line, TaskImportRow in) {
+            Integer categoryId = in.category() == null ? null : categoryByName
+                    .computeIfAbsent(in.category().trim().toLowerCase(Locale.ROOT),
+                            name -> categories.findByNameIgnoreCase(name).map(Category::getId))
+                    .orElseThrow(() -> new EntityNotFoundException("Category not found: " + in.category()));
+            Integer assigneeId = in.assigneeEmail() == null ? null : userByEmail
+                    .computeIfAbsent(in.assigneeEmail().trim().toLowerCase(Locale.ROOT),
+                            email -> users.findByEmailIgnoreCase(email).map(UserAccount::getId))
+                    .orElseThrow(() -> new EntityNotFoundException("User not found: " + in.assigneeEmail()));
+
+            LocalDate dueDate;
+            try {
+                dueDate = in.dueDate() == null ? null : LocalDate.parse(in.dueDate().trim());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid dueDate: " + in.dueDate());
+            }
+            TaskStatus status;
+            try {
+                status = in.status() == null ? TaskStatus.PENDING
+                        : TaskStatus.valueOf(in.status().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status: " + in.status());
+            }
+
+            TaskService.validateCreate(new TaskCreateRequest(in.title(), in.description(), categoryId, assigneeId, dueDate));
+            return new Row(line, in.title(), in.description(), status, categoryId, assigneeId, dueDate);
+        }
+
+        void reject(long line, String error) {
+            rejected++;
+            if (rejections.size() < maxReportedRejections) rejections.add(new TaskImportResponse.Rejection(line, error));
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+            try {
+                tx.executeWithoutResult(status -> {
+                    load(chunk);
+                    recentWriters.recordWrite();
+                });
+                imported += chunk.size();
+                chunk.forEach(r -> { if (r.assigneeId() != null) assignees.add(r.assigneeId()); });
+            } catch (RuntimeException e) {
+                // e.g. a category deleted mid-import: the chunk's transaction is gone, report its rows
+                String error = "Chunk rolled back: " + rootMessage(e);
+                log.warn("Task import chunk of {} rows (lines {}-{}) failed: {}", chunk.size(),
+                        chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), error);
+                chunk.forEach(r -> reject(r.line(), error));
+            }
+            chunk.clear();
+            log.info("Task import progress: {} read, {} imported, {} rejected", read, imported, rejected);
+        }
+
+        private void load(List<Row> rows) {
+            Connection con = DataSourceUtils.getConnection(dataSource);
+            try {
+                if (copy == null) copy = useCopy && con.isWrapperFor(PGConnection.class);
+                var ids = allocateIds(rows.size());
+                if (copy) copy(con.unwrap(PGConnection.class), rows, ids);
+                else batchInsert(rows, ids);
+            } catch (SQLException | IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            } finally {
+                DataSourceUtils.releaseConnection(con, dataSource);
+            }
+        }
+
+        private void copy(PGConnection con, List<Row> rows, List<Integer> ids) throws SQLException, IOException {
+            var csv = new StringWriter(rows.size() * 64);
+            var now = LocalDateTime.now();
+            for (int i = 0; i < rows.size(); i++) {
+                var r = rows.get(i);
+                Csv.writeRow(csv, ids.get(i), r.title(), r.description(), r.status(), r.categoryId(),
+                        r.assigneeId(), creatorId, r.dueDate(), r.status() == TaskStatus.COMPLETED ? now : null);
+            }
+            con.getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+        }
+
+        private void batchInsert(List<Row> rows, List<Integer> ids) {
+            var now = Timestamp.valueOf(LocalDateTime.now());
+            jdbc.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    var r = rows.get(i);
+                    ps.setInt(1, ids.get(i));
+                    ps.setString(2, r.title());
+                    ps.setString(3, r.description());
+                    ps.setString(4, r.status().name());
+                    ps.setObject(5, r.categoryId(), Types.INTEGER);
+                    ps.setObject(6, r.assigneeId(), Types.INTEGER);
+                    ps.setInt(7, creatorId);
+                    ps.setDate(8, r.dueDate() == null ? null : Date.valueOf(r.dueDate()));
+                    ps.setTimestamp(9, r.status() == TaskStatus.COMPLETED ? now : null);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            });
+        }
+
+        private List<Integer> allocateIds(int n) {
+            var blocks = jdbc.queryForList("SELECT nextval('tasks_id_seq') FROM generate_series(1, ?)",
+                    Long.class, (n + ID_BLOCK - 1) / ID_BLOCK);
+            var ids = new ArrayList<Integer>(n);
+            for (Long hi : blocks) {
+                for (long id = Math.max(1, hi - ID_BLOCK + 1); id <= hi && ids.size() < n; id++) ids.add((int) id);
+            }
+            // only at the very start of a fresh sequence are blocks clipped short; top up
+            while (ids.size() < n) ids.addAll(allocateIds(n - ids.size()));
+            return ids;
+        }
+
+        String loader() {
+            return Boolean.TRUE.equals(copy) ? "copy" : "batch-insert";
+        }
+
+        long elapsedMs() {
+            return (System.nanoTime() - startedAt) / 1_000_000;
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        while (e.getCause() != null && e.getCause() != e) e = e.getCause();
+        return e.getMessage();
+    }
+}
@@ -0,0 +1,402 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sghimire.TodoListApp_Java.dto.PageResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskHistoryEntry;
+import dev.sghimire.TodoListApp_Java.dto.TaskHistoryEntry.FieldChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Write-behind task change journal. The field-level diffs of a transaction's task writes are
+// collected while it runs; once it commits they are appended to a local spool file with one
+// flush and queued, and one writer thread drains the queue and group-commits batches into
+// task_history. The request thread never touches the database.
+//
+//  - backpressure: a full queue blocks producers for up to offer-timeout; past that the
+//    transaction's entries stay in the spool only and the writer replays the spool to pick them up
+//  - recovery: the spool is truncated only once everything in it is committed, and is replayed
+//    on startup; (task_id, version) is unique, so replays never duplicate rows
+@Component
+public class TaskJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskJournal.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO task_history (task_id, version, change_type, changed_by, changed_at, changes)
+            VALUES (?, ?, ?, ?, ?, CAST(? AS jsonb))
+            ON CONFLICT (task_id, version) DO NOTHING
+            """;
+    private static final TypeReference<Map<String, FieldChange>> CHANGES = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper mapper;
+    private final boolean enabled;
+    private final Path spool;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration offerTimeout;
+
+    private final BlockingQueue<TaskHistoryEntry> queue;
+    private final Semaphore capacity;                    // free queue slots, for timed backpressure
+    private final Object spoolLock = new Object();
+    private volatile boolean spilled;                    // spool holds entries the queue never saw
+    private boolean spoolDirty;                          // appended since the last truncate (spoolLock)
+    private volatile boolean running;
+    private BufferedWriter spoolWriter;
+    private Thread writer;
+
+    private final Counter written;
+    private final Counter spills;
+    private final Timer batchTimer;
+
+    public TaskJournal(JdbcTemplate jdbc,
+                       ObjectMapper mapper,
+                       MeterRegistry registry,
+                       @Value("${todo.tasks.journal.enabled:true}") boolean enabled,
+                       @Value("${todo.tasks.journal.spool:data/todo-task-journal.ndjson}") Path spool,
+                       @Value("${todo.tasks.journal.queue-capacity:10000}") int queueCapacity,
+                       @Value("${todo.tasks.journal.batch-size:500}") int batchSize,
+                       @Value("${todo.tasks.journal.linger:50ms}") Duration linger,
+                       @Value("${todo.tasks.journal.offer-timeout:100ms}") Duration offerTimeout) {
+        this.jdbc = jdbc;
+        this.mapper = mapper;
+        this.enabled = enabled;
+        this.spool = spool;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.offerTimeout = offerTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.capacity = new Semaphore(queueCapacity);
+
+        Gauge.builder("todo.tasks.journal.queued", queue, BlockingQueue::size)
+                .description("Journal entries waiting for the writer").register(registry);
+        this.written = Counter.builder("todo.tasks.journal.written")
+                .description("Journal entries committed to task_history").register(registry);
+        this.spills = Counter.builder("todo.tasks.journal.spilled")
+                .description("Entries that found the queue full and went to the spool only").register(registry);
+        this.batchTimer = Timer.builder("todo.tasks.journal.batch")
+                .description("Group-commit time per journal batch").register(registry);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) return;
+        if (spool.getParent() != null) Files.createDirectories(spool.getParent());
+        try {
+            replaySpool(); // anything left from before a crash or kill
+            spoolDirty = true; // committed now; the writer truncates it once the queue is drained
+        } catch (RuntimeException e) {
+            log.warn("Task journal spool replay failed, the writer will retry: {}", e.getMessage());
+            spilled = true;
+        }
+        spoolWriter = Files.newBufferedWriter(spool, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        running = true;
+        writer = Thread.ofPlatform().name("task-journal").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (!running) return;
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        synchronized (spoolLock) {
+            try {
+                spoolWriter.close();
+            } catch (IOException e) {
+                log.debug("Closing task journal spool: {}", e.getMessage());
+            }
+        }
+    }
+
+    // Runs inside the write transaction: entries wait there and are journaled together once it
+    // commits, so a 500-task batch update costs one spool flush, and a rollback journals nothing
+    @EventListener
+    public void on(TaskChangedEvent event) {
+        if (!running || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+        var entry = toEntry(event, currentUser());
+        if (entry.changes().isEmpty()) return;
+        pendingEntries().add(entry);
+    }
+
+    private List<TaskHistoryEntry> pendingEntries() {
+        @SuppressWarnings("unchecked")
+        var pending = (List<TaskHistoryEntry>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) return pending;
+        var entries = new ArrayList<TaskHistoryEntry>();
+        TransactionSynchronizationManager.bindResource(this, entries);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                journal(entries);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskJournal.this);
+            }
+        });
+        return entries;
+    }
+
+    private void journal(List<TaskHistoryEntry> entries) {
+        if (!running) return;
+        try {
+            // all or nothing, so a transaction's entries are never split between queue and spool
+            boolean queued = capacity.tryAcquire(entries.size(), offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            synchronized (spoolLock) {
+                appendToSpool(entries);
+                if (queued) queue.addAll(entries);
+                else spilled = true;
+            }
+            if (!queued) spills.increment(entries.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Newest first; page with ?before=<nextCursor>
+    public PageResponse<TaskHistoryEntry> history(Integer taskId, String before, int limit) {
+        int size = Math.max(1, Math.min(limit, TaskService.MAX_PAGE_SIZE));
+        Integer beforeVersion = (before == null || before.isBlank()) ? null : Cursors.decodeInt(before);
+        var rows = jdbc.query("""
+                        SELECT task_id, version, change_type, changed_by, changed_at, changes
+                        FROM task_history
+                        WHERE task_id = ? AND version < ?
+                        ORDER BY version DESC
+                        LIMIT ?
+                        """,
+                (rs, i) -> new TaskHistoryEntry(
+                        rs.getInt("task_id"),
+                        rs.getInt("version"),
+                        rs.getString("change_type"),
+                        rs.getObject("changed_by", Integer.class),
+                        rs.getTimestamp("changed_at").toLocalDateTime(),
+                        readChanges(rs.getString("changes"))),
+                taskId, beforeVersion != null ? beforeVersion : Integer.MAX_VALUE, size + 1);
+
+        boolean hasMore = rows.size() > size;
+        var content = hasMore ? rows.subList(0, size) : rows;
+        String next = hasMore ? Cursors.encode(content.get(content.size() - 1).version()) : null;
+        return new PageResponse<>(content, 0, size, null, null, beforeVersion == null, !hasMore, next);
+    }
+
+    private void run() {
+        var batch = new ArrayList<TaskHistoryEntry>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(linger.toNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    // linger briefly so concurrent writes share one commit
+                    long deadline = System.nanoTime() + linger.toNanos();
+                    while (batch.size() < batchSize) {
+                        var next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                        if (next == null) break;
+                        batch.add(next);
+                    }
+                    capacity.release(batch.size());
+                    writeWithRetry(batch);
+                    batch.clear();
+                }
+                if (spilled) {
+                    spilled = false;
+                    try {
+                        replaySpool();
+                    } catch (RuntimeException e) {
+                        spilled = true;
+                        throw e;
+                    }
+                }
+                truncateSpoolIfDrained();
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) writeQuietly(batch); // shutting down: last try, spool keeps the rest
+                batch.clear();
+                queue.drainTo(batch);
+                writeQuietly(batch);
+                batch.clear();
+                try {
+                    truncateSpoolIfDrained();
+                } catch (IOException io) {
+                    log.warn("Task journal could not truncate the spool on shutdown; it will be replayed: {}",
+                            io.getMessage());
+                }
+                return;
+            } catch (Exception e) {
+                log.warn("Task journal writer error; entries remain in the spool: {}", e.getMessage());
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException ie) {
+                    return; // spool is replayed on next start
+                }
+            }
+        }
+    }
+
+    private void writeWithRetry(List<TaskHistoryEntry> batch) throws InterruptedException {
+        long backoff = 200;
+        while (true) {
+            try {
+                write(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (!running) throw new InterruptedException("shutting down");
+                log.warn("Task journal batch of {} failed, retrying in {} ms: {}", batch.size(), backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, 10_000);
+            }
+        }
+    }
+
+    private void writeQuietly(List<TaskHistoryEntry> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            log.warn("Task journal could not flush {} entries on shutdown; they will be replayed from the spool",
+                    batch.size());
+        }
+    }
+
+    // One statement batch, one commit (JdbcTemplate outside a transaction: autocommit)
+    private void write(List<TaskHistoryEntry> batch) {
+        batchTimer.record(() -> jdbc.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, e) -> {
+            ps.setInt(1, e.taskId());
+            ps.setInt(2, e.version());
+            ps.setString(3, e.type());
+            ps.setObject(4, e.changedBy(), Types.INTEGER);
+            ps.setTimestamp(5, Timestamp.valueOf(e.changedAt()));
+            ps.setString(6, writeChanges(e.changes()));
+        }));
+        written.increment(batch.size());
+    }
+
+    private void replaySpool() {
+        if (!Files.exists(spool)) return;
+        var batch = new ArrayList<TaskHistoryEntry>(batchSize);
+        long replayed = 0;
+        try (var lines = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    batch.add(mapper.readValue(line, TaskHistoryEntry.class));
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable task journal spool line: {}", e.getMessage()); // torn last write
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    write(batch);
+                    replayed += batch.size();
+                    batch.clear();
+                }
+            }
+            write(batch);
+            replayed += batch.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (replayed > 0) log.info("Replayed {} task journal entries from {}", replayed, spool);
+    }
+
+    private void truncateSpoolIfDrained() throws IOException {
+        synchronized (spoolLock) {
+            if (!spoolDirty || !queue.isEmpty() || spilled || spoolWriter == null) return;
+            spoolDirty = false;
+            spoolWriter.close();
+            spoolWriter = Files.newBufferedWriter(spool, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+    }
+
+    private void appendToSpool(List<TaskHistoryEntry> entries) {
+        try {
+            for (var entry : entries) {
+                spoolWriter.write(mapper.writeValueAsString(entry));
+                spoolWriter.newLine();
+            }
+            spoolWriter.flush(); // to the OS: survives a process crash, not a power cut
+            spoolDirty = true;
+        } catch (IOException e) {
+            log.warn("Task journal spool write failed: {}", e.getMessage());
+        }
+    }
+
+    private static TaskHistoryEntry toEntry(TaskChangedEvent event, Integer changedBy) {
+        var task = event.task();
+        var changes = new LinkedHashMap<String, FieldChange>();
+        for (TaskField f : TaskField.values()) {
+            Object from = event.before() != null ? event.before().get(f) : null;
+            Object to = f.get(task);
+            if (!Objects.equals(from, to)) changes.put(f.jsonName(), new FieldChange(from, to));
+        }
+        return new TaskHistoryEntry(task.id(), task.version(), event.type().name(),
+                event.type() == TaskChangedEvent.Type.CREATED ? task.createdById() : changedBy,
+                LocalDateTime.now(), changes);
+    }
+
+    private String writeChanges(Map<String, FieldChange> changes) {
+        try {
+            return mapper.writeValueAsString(changes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Map<String, FieldChange> readChanges(String json) {
+        try {
+            return mapper.readValue(json, CHANGES);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Integer currentUser() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs) {
+            String header = attrs.getRequest().getHeader("X-User-Id");
+            try {
+                return header != null ? Integer.valueOf(header.trim()) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,13 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import java.time.LocalDate;
+
+public record TaskReminder(
+        Integer taskId,
+        String title,
+        LocalDate dueDate,
+        Integer assigneeId,     // nullable
+        String assigneeName,
+        String assigneeEmail,
+        boolean overdue         // due before the day it was claimed
+) {}
@@ -0,0 +1,179 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Polls for open tasks whose due date falls in [today - overdue-window, today + lead] and
+// hands them to the ReminderSink in batches. Each batch is claimed with FOR UPDATE SKIP LOCKED
+// and marked (reminder_sent_for = due_date) in one short transaction, so any number of app
+// instances can poll concurrently without sending a reminder twice. Delivery runs after that
+// commit, so a slow sink never holds row locks; if it fails the claims are released for a
+// later poll. The scan walks the partial index idx_tasks_reminder_pending (V4), which only
+// holds tasks still owed a reminder.
+@Component
+@ConditionalOnProperty(name = "todo.reminders.enabled", havingValue = "true")
+public class TaskReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskReminderScheduler.class);
+
+    private static final String CLAIM_SQL = """
+            WITH due AS (
+              SELECT id FROM tasks
+              WHERE status <> 'COMPLETED' AND due_date IS NOT NULL
+                AND reminder_sent_for IS DISTINCT FROM due_date
+                AND due_date BETWEEN :floor AND :horizon
+              ORDER BY due_date, id
+              LIMIT :limit
+              FOR UPDATE SKIP LOCKED
+            ), claimed AS (
+              UPDATE tasks t SET reminder_sent_for = t.due_date
+              FROM due WHERE t.id = due.id
+              RETURNING t.id, t.title, t.due_date, t.assignee_id
+            )
+            SELECT c.id, c.title, c.due_date, c.assignee_id, u.name AS assignee_name, u.email AS assignee_email
+            FROM claimed c LEFT JOIN users u ON u.id = c.assignee_id
+            ORDER BY c.due_date, c.id
+            """;
+
+    // Only un-claims rows still marked for the due date that was claimed; a task whose due date
+    // moved meanwhile is owed a reminder anyway
+    private static final String RELEASE_SQL = """
+            UPDATE tasks SET reminder_sent_for = NULL
+            WHERE id IN (:ids) AND reminder_sent_for = due_date
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final ReminderSink sink;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int leadDays;
+    private final int overdueWindowDays;
+
+    private final Counter sent;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    private final Timer batchTimer;
+    private final Timer lag;
+
+    public TaskReminderScheduler(NamedParameterJdbcTemplate jdbc,
+                                 TransactionTemplate tx,
+                                 ReminderSink sink,
+                                 MeterRegistry registry,
+                                 @Value("${todo.reminders.batch-size:500}") int batchSize,
+                                 @Value("${todo.reminders.max-batches-per-run:20}") int maxBatchesPerRun,
+                                 @Value("${todo.reminders.lead-days:1}") int leadDays,
+                                 @Value("${todo.reminders.overdue-window-days:7}") int overdueWindowDays) {
+        this.jdbc = jdbc;
+        this.tx = tx;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.leadDays = leadDays;
+        this.overdueWindowDays = overdueWindowDays;
+
+        this.sent = Counter.builder("todo.reminders.sent")
+                .description("Reminders delivered to the sink").register(registry);
+        this.failed = Counter.builder("todo.reminders.failed")
+                .description("Batches whose claim or delivery failed").register(registry);
+        this.batchSizes = DistributionSummary.builder("todo.reminders.batch.size")
+                .description("Reminders claimed per batch").register(registry);
+        this.batchTimer = Timer.builder("todo.reminders.batch")
+                .description("Claim + deliver time per batch").register(registry);
+        this.lag = Timer.builder("todo.reminders.lag")
+                .description("Time from a task becoming eligible (start of due date - lead) to its reminder")
+                .register(registry);
+    }
+
+    // Drains up to max-batches-per-run full batches, then waits for the next poll
+    @Scheduled(initialDelayString = "${todo.reminders.initial-delay:30s}",
+               fixedDelayString = "${todo.reminders.poll-interval:1m}")
+    public void poll() {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int claimed = runBatch(LocalDate.now());
+            total += claimed;
+            if (claimed < batchSize) break;
+        }
+        if (total > 0) log.debug("Sent {} due-date reminders", total);
+    }
+
+    // Claims one batch, commits, then delivers it; returns how many reminders went out (0 on failure)
+    public int runBatch(LocalDate today) {
+        var params = new MapSqlParameterSource()
+                .addValue("floor", today.minusDays(overdueWindowDays))
+                .addValue("horizon", today.plusDays(leadDays))
+                .addValue("limit", batchSize);
+
+        Timer.Sample sample = Timer.start();
+        List<TaskReminder> batch;
+        try {
+            batch = tx.execute(status -> jdbc.query(CLAIM_SQL, params, (rs, i) -> {
+                var dueDate = rs.getObject("due_date", LocalDate.class);
+                return new TaskReminder(
+                        rs.getInt("id"),
+                        rs.getString("title"),
+                        dueDate,
+                        rs.getObject("assignee_id", Integer.class),
+                        rs.getString("assignee_name"),
+                        rs.getString("assignee_email"),
+                        dueDate.isBefore(today));
+            }));
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Reminder claim failed and was rolled back; it will be retried", e);
+            sample.stop(batchTimer);
+            return 0;
+        }
+        if (batch == null || batch.isEmpty()) {
+            sample.stop(batchTimer);
+            return 0;
+        }
+
+        try {
+            sink.deliver(batch);
+        } catch (RuntimeException e) {
+            failed.increment();
+            release(batch);
+            log.warn("Reminder delivery failed; {} claims released for a later poll", batch.size(), e);
+            return 0;
+        } finally {
+            sample.stop(batchTimer);
+        }
+
+        batchSizes.record(batch.size());
+        sent.increment(batch.size());
+        var now = LocalDateTime.now();
+        for (TaskReminder r : batch) {
+            var waited = Duration.between(r.dueDate().minusDays(leadDays).atStartOfDay(), now);
+            lag.record(waited.isNegative() ? Duration.ZERO : waited);
+        }
+        return batch.size();
+    }
+
+    private void release(List<TaskReminder> batch) {
+        var ids = batch.stream().map(TaskReminder::taskId).toList();
+        try {
+            jdbc.update(RELEASE_SQL, new MapSqlParameterSource("ids", ids));
+        } catch (RuntimeException e) {
+            log.error("Could not release {} reminder claims; those reminders will not be sent: {}",
+                    ids.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+
+import java.util.List;
+
+// Ranked full-text lookup. Hits come back ordered by (rank DESC, id DESC), starting strictly
+// after the (rank, id) seek position when one is given.
+public interface TaskSearchIndex {
+
+    record Query(String text, TaskStatus status, Integer categoryId, Integer assigneeId) {}
+
+    record Hit(TaskResponse task, float rank) {}
+
+    List<Hit> search(Query query, Float afterRank, Integer afterId, int limit);
+}
@@ -0,0 +1,53 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.PageResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class TaskSearchService {
+
+    private final TaskSearchIndex index;
+
+    public TaskSearchService(TaskSearchIndex index) {
+        this.index = index;
+    }
+
+    // Ranked results, keyset-paged on (rank, id): the cursor carries the last hit's rank and id
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> search(String q, TaskStatus status, Integer categoryId, Integer assigneeId,
+                                             String after, int limit) {
+        if (q == null || q.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty.");
+        }
+        int size = Math.min(Math.max(limit, 1), TaskService.MAX_PAGE_SIZE);
+
+        Float afterRank = null;
+        Integer afterId = null;
+        boolean first = (after == null || after.isBlank());
+        if (!first) {
+            var parts = Cursors.decode(after, 2);
+            try {
+                afterRank = Float.parseFloat(parts[0]);
+                afterId = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + after);
+            }
+        }
+
+        var query = new TaskSearchIndex.Query(q.trim(), status, categoryId, assigneeId);
+        var hits = index.search(query, afterRank, afterId, size + 1);
+
+        boolean hasMore = hits.size() > size;
+        var page = hasMore ? hits.subList(0, size) : hits;
+        String next = null;
+        if (hasMore) {
+            var last = page.get(page.size() - 1);
+            next = Cursors.encode(last.rank(), last.task().id());
+        }
+        var content = page.stream().map(TaskSearchIndex.Hit::task).toList();
+        return new PageResponse<>(content, 0, size, null, null, first, !hasMore, next);
+    }
+}
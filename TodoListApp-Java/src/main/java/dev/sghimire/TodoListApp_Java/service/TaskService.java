@@ -1,42 +1,90 @@
 package dev.sghimire.TodoListApp_Java.service;
 
+import dev.sghimire.TodoListApp_Java.config.RecentWriters;
+import dev.sghimire.TodoListApp_Java.dto.BatchItemResult;
+import dev.sghimire.TodoListApp_Java.dto.FieldConflict;
 import dev.sghimire.TodoListApp_Java.dto.PageResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskBatchUpdateRequest;
 import dev.sghimire.TodoListApp_Java.dto.TaskCreateRequest;
 import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
 import dev.sghimire.TodoListApp_Java.dto.TaskUpdateRequest;
+import dev.sghimire.TodoListApp_Java.dto.UserTaskStatsResponse;
 import dev.sghimire.TodoListApp_Java.model.Category;
 import dev.sghimire.TodoListApp_Java.model.Task;
 import dev.sghimire.TodoListApp_Java.model.TaskStatus;
 import dev.sghimire.TodoListApp_Java.model.UserAccount;
 import dev.sghimire.TodoListApp_Java.repository.CategoryRepository;
+import dev.sghimire.TodoListApp_Java.repository.TaskProperty;
 import dev.sghimire.TodoListApp_Java.repository.TaskRepository;
 import dev.sghimire.TodoListApp_Java.repository.UserAccountRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.OptimisticLockException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongFunction;
 
 @Service
+@Timed("todo.service") // one timer per public method, tagged class/method/exception
 public class TaskService {
 
+    private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int MAX_MERGE_ATTEMPTS = 5;
+
     private final TaskRepository tasks;
     private final UserAccountRepository users;
     private final CategoryRepository categories;
+    private final ReferenceDataCache refData;
+    private final TaskStatusCounter statusCounter;
+    private final ApplicationEventPublisher events;
+    private final TaskSnapshotStore snapshots;
+    private final TransactionTemplate tx;
+    private final RecentWriters recentWriters;
 
     public TaskService(TaskRepository tasks,
                        UserAccountRepository users,
-                       CategoryRepository categories) {
+                       CategoryRepository categories,
+                       ReferenceDataCache refData,
+                       TaskStatusCounter statusCounter,
+                       ApplicationEventPublisher events,
+                       TaskSnapshotStore snapshots,
+                       TransactionTemplate tx,
+                       RecentWriters recentWriters) {
         this.tasks = tasks;
         this.users = users;
         this.categories = categories;
+        this.refData = refData;
+        this.statusCounter = statusCounter;
+        this.events = events;
+        this.snapshots = snapshots;
+        this.tx = tx;
+        this.recentWriters = recentWriters;
     }
 
     @Transactional
@@ -44,22 +92,13 @@ public class TaskService {
         Integer creatorId = (creatorIdHeader != null) ? creatorIdHeader : 1; // fallback demo user
         validateCreate(req);
 
-        Task task = new Task();
-        task.setTitle(req.title());
-        task.setDescription(req.description());
-        task.setStatus(TaskStatus.PENDING);
-        task.setCreatedBy(findUser(creatorId));
-
-        if (req.categoryId() != null) {
-            task.setCategory(findCategory(req.categoryId()));
-        }
-        if (req.assigneeId() != null) {
-            task.setAssignee(findUser(req.assigneeId()));
-        }
-        task.setDueDate(req.dueDate());
+        Task task = newTask(req, findUser(creatorId),
+                req.categoryId() != null ? findCategory(req.categoryId()) : null,
+                req.assigneeId() != null ? findUser(req.assigneeId()) : null);
 
         Task saved = tasks.save(task);
-        return toDto(saved);
+        statusCounter.created(req.assigneeId(), saved.getStatus());
+        return published(TaskChangedEvent.Type.CREATED, toDto(saved));
     }
 
     @Transactional
@@ -71,45 +110,199 @@ public class TaskService {
             throw new OptimisticLockException("Version mismatch");
         }
 
-        if (req.title() != null) t.setTitle(req.title());
-        if (req.description() != null) t.setDescription(req.description());
+        var before = applyChanges(t, req, this::findCategory, this::findUser);
 
-        // Note: This preserves current semantics: only set when non-null is provided
-        if (req.categoryId() != null) {
-            t.setCategory(findCategory(req.categoryId()));
+        // Flush now so the DTO (and its ETag) carries the bumped @Version
+        tasks.flush();
+        return published(toDto(t), before);
+    }
+
+    // If-Match: * (any existing version): the version checked is the one this write transaction
+    // reads, on the primary, rather than a separate read that may come from a lagging replica
+    @Transactional
+    public TaskResponse updateAnyVersion(Integer id, TaskUpdateRequest req) {
+        Task t = tasks.findById(id).orElseThrow(() -> notFound("Task", id));
+        return update(id, req.withVersion(t.getVersion()));
+    }
+
+    // Merge mode: a stale version is not fatal if none of the fields the client sends changed
+    // since that version (per TaskSnapshotStore). Each attempt is its own transaction; losing a
+    // race at flush re-reads and re-merges, up to MAX_MERGE_ATTEMPTS.
+    public TaskResponse updateMerging(Integer id, TaskUpdateRequest req) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return tx.execute(status -> mergeOnce(id, req));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= MAX_MERGE_ATTEMPTS) throw e;
+                log.debug("Merge of task {} lost a race (attempt {}), retrying", id, attempt);
+            }
         }
+    }
 
-        if (req.assigneeId() != null) {
-            t.setAssignee(findUser(req.assigneeId()));
+    private TaskResponse mergeOnce(Integer id, TaskUpdateRequest req) {
+        Task t = tasks.findById(id).orElseThrow(() -> notFound("Task", id));
+
+        if (!Objects.equals(req.version(), t.getVersion())) {
+            TaskResponse current = toDto(t);
+            TaskResponse base = (req.version() == null) ? null : snapshots.find(id, req.version());
+            if (base == null) {
+                throw new TaskUpdateConflictException("Version " + req.version() + " of task " + id
+                        + " is unknown to the server; reload and retry", current.version(), List.of());
+            }
+            var conflicts = new ArrayList<FieldConflict>();
+            var changed = TaskField.changedBetween(base, current);
+            for (TaskField f : TaskField.touchedBy(req)) {
+                // sending the value it already has is not a conflict
+                if (changed.contains(f) && !Objects.equals(f.get(req), f.get(current))) {
+                    conflicts.add(new FieldConflict(f.jsonName(), f.get(base), f.get(current), f.get(req)));
+                }
+            }
+            if (!conflicts.isEmpty()) {
+                throw new TaskUpdateConflictException("Conflicting changes since version " + req.version(),
+                        current.version(), conflicts);
+            }
         }
 
-        if (req.status() != null) {
-            t.setStatus(req.status());
-            if (req.status() == TaskStatus.COMPLETED) {
-                t.setCompletedAt(LocalDateTime.now());
+        var before = applyChanges(t, req, this::findCategory, this::findUser);
+        tasks.flush(); // surfaces a concurrent commit here, inside the retry loop
+        return published(toDto(t), before);
+    }
+
+    // Bulk create: refs resolved with one findAllById each, inserts go out as JDBC batches
+    @Transactional
+    public List<BatchItemResult> createBatch(List<TaskCreateRequest> reqs, Integer creatorIdHeader) {
+        checkBatchSize(reqs);
+        Integer creatorId = (creatorIdHeader != null) ? creatorIdHeader : 1; // fallback demo user
+        UserAccount creator = findUser(creatorId);
+
+        var categoryById = byId(categories.findAllById(idsOf(reqs, TaskCreateRequest::categoryId)), Category::getId);
+        var userById = byId(users.findAllById(idsOf(reqs, TaskCreateRequest::assigneeId)), UserAccount::getId);
+
+        var results = new BatchItemResult[reqs.size()];
+        var pending = new ArrayList<Task>();
+        var slots = new ArrayList<Integer>();
+        for (int i = 0; i < reqs.size(); i++) {
+            var req = reqs.get(i);
+            try {
+                if (req == null) throw new IllegalArgumentException("Item must not be null.");
+                validateCreate(req);
+                pending.add(newTask(req, creator,
+                        lookup(categoryById, req.categoryId(), "Category"),
+                        lookup(userById, req.assigneeId(), "User")));
+                slots.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = BatchItemResult.failed(i, null, BatchItemResult.Outcome.INVALID, e.getMessage());
+            } catch (EntityNotFoundException e) {
+                results[i] = BatchItemResult.failed(i, null, BatchItemResult.Outcome.NOT_FOUND, e.getMessage());
             }
         }
 
-        if (req.dueDate() != null) t.setDueDate(req.dueDate());
+        var saved = tasks.saveAll(pending);
+        for (int j = 0; j < saved.size(); j++) {
+            int i = slots.get(j);
+            statusCounter.created(reqs.get(i).assigneeId(), saved.get(j).getStatus());
+            results[i] = BatchItemResult.ok(i, BatchItemResult.Outcome.CREATED,
+                    published(TaskChangedEvent.Type.CREATED, toDto(saved.get(j))));
+        }
+        return List.of(results);
+    }
+
+    // Bulk update: stale versions are reported per item instead of failing the whole batch.
+    // A concurrent writer committing between our read and flush still fails the batch with 409.
+    @Transactional
+    public List<BatchItemResult> updateBatch(List<TaskBatchUpdateRequest> reqs) {
+        checkBatchSize(reqs);
+        var taskById = byId(tasks.findAllWithRefsByIdIn(idsOf(reqs, TaskBatchUpdateRequest::id)), Task::getId);
+        var changes = reqs.stream().map(r -> r == null ? null : r.changes()).toList();
+        var categoryById = byId(categories.findAllById(idsOf(changes, TaskUpdateRequest::categoryId)), Category::getId);
+        var userById = byId(users.findAllById(idsOf(changes, TaskUpdateRequest::assigneeId)), UserAccount::getId);
+
+        var results = new BatchItemResult[reqs.size()];
+        var applied = new ArrayList<Integer>();
+        var beforeByIndex = new HashMap<Integer, Map<TaskField, Object>>();
+        var seen = new HashSet<Integer>();
+        for (int i = 0; i < reqs.size(); i++) {
+            var item = reqs.get(i);
+            Integer id = item != null ? item.id() : null;
+            if (id == null || item.changes() == null) {
+                results[i] = BatchItemResult.failed(i, id, BatchItemResult.Outcome.INVALID, "Item needs an id and changes.");
+                continue;
+            }
+            var req = item.changes();
+            Task t = taskById.get(id);
+            if (t == null) {
+                results[i] = BatchItemResult.failed(i, id, BatchItemResult.Outcome.NOT_FOUND, "Task not found: " + id);
+            } else if (!seen.add(id)) {
+                results[i] = BatchItemResult.failed(i, id, BatchItemResult.Outcome.CONFLICT, "Task appears more than once in batch.");
+            } else if (!Objects.equals(req.version(), t.getVersion())) {
+                results[i] = BatchItemResult.failed(i, id, BatchItemResult.Outcome.CONFLICT,
+                        "Version mismatch: current version is " + t.getVersion());
+            } else {
+                try {
+                    // resolve refs before touching the entity so a bad item leaves it unchanged
+                    Category category = lookup(categoryById, req.categoryId(), "Category");
+                    UserAccount assignee = lookup(userById, req.assigneeId(), "User");
+                    beforeByIndex.put(i, applyChanges(t, req, catId -> category, userId -> assignee));
+                    applied.add(i);
+                } catch (EntityNotFoundException e) {
+                    results[i] = BatchItemResult.failed(i, id, BatchItemResult.Outcome.NOT_FOUND, e.getMessage());
+                }
+            }
+        }
 
-        // JPA dirty checking will flush; return DTO view
-        return toDto(t);
+        // one flush for the whole batch; DTOs then carry the bumped versions
+        tasks.flush();
+        for (int i : applied) {
+            Task t = taskById.get(reqs.get(i).id());
+            results[i] = BatchItemResult.ok(i, BatchItemResult.Outcome.UPDATED,
+                    published(toDto(t), beforeByIndex.get(i)));
+        }
+        return List.of(results);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskResponse get(Integer id) {
+        var task = tasks.findResponseById(id).orElseThrow(() -> notFound("Task", id));
+        snapshots.remember(task); // possible merge base for this client's next update
+        return task;
+    }
+
+    // PK lookup of just the version column, for ETag / If-None-Match checks
+    @Transactional(readOnly = true)
+    public Integer currentVersion(Integer id) {
+        return tasks.findVersionById(id).orElseThrow(() -> notFound("Task", id));
+    }
+
+    // Hands the list version to read inside one read-only transaction: the rows read there come
+    // from the same database (replica) as the version, never from one further behind
+    @Transactional(readOnly = true)
+    public <T> T withListVersion(LongFunction<T> read) {
+        return read.apply(tasks.listVersion());
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponse> list(TaskStatus status) {
-        var list = (status == null) ? tasks.findAll() : tasks.findByStatus(status);
-        return list.stream().map(this::toDto).toList();
+        return (status == null) ? tasks.findAllResponses() : tasks.findResponsesByStatus(status);
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponse> byAssignee(Integer userId) {
-        var user = findUser(userId);
-        return tasks.findByAssignee(user).stream().map(this::toDto).toList();
+        findUser(userId);
+        var list = tasks.findResponsesByAssigneeId(userId);
+        snapshots.rememberAll(list);
+        return list;
+    }
+
+    // ?fields= variant: only the requested columns, joins only for requested names
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> byAssignee(Integer userId, Set<TaskProperty> fields) {
+        findUser(userId);
+        return tasks.findSparse(fields, null, userId, null, Sort.by("id"), 0, 0);
     }
 
     // ---------------- helpers ----------------
-    private void validateCreate(TaskCreateRequest req) {
+    // Shared with TaskImporter so imported rows obey the same rules
+    static void validateCreate(TaskCreateRequest req) {
         if (req.title() == null || req.title().trim().isEmpty()) {
             throw new IllegalArgumentException("Title must not be empty.");
         }
@@ -120,14 +313,110 @@ public class TaskService {
     }
 
     private UserAccount findUser(Integer id) {
-        return users.findById(id).orElseThrow(() -> notFound("User", id));
+        return refData.user(id).orElseThrow(() -> notFound("User", id));
     }
 
     private Category findCategory(Integer id) {
-        return categories.findById(id).orElseThrow(() -> notFound("Category", id));
+        return refData.category(id).orElseThrow(() -> notFound("Category", id));
+    }
+
+    private Task newTask(TaskCreateRequest req, UserAccount creator, Category category, UserAccount assignee) {
+        Task task = new Task();
+        task.setTitle(req.title());
+        task.setDescription(req.description());
+        task.setStatus(TaskStatus.PENDING);
+        task.setCreatedBy(creator);
+        task.setCategory(category);
+        task.setAssignee(assignee);
+        task.setDueDate(req.dueDate());
+        return task;
+    }
+
+    // Returns the fields as they were, for the change journal
+    private Map<TaskField, Object> applyChanges(Task t, TaskUpdateRequest req,
+                                                Function<Integer, Category> categoryLookup,
+                                                Function<Integer, UserAccount> userLookup) {
+        var before = TaskField.capture(t);
+        Integer oldAssigneeId = assigneeIdOf(t);
+        TaskStatus oldStatus = t.getStatus();
+
+        if (req.title() != null) t.setTitle(req.title());
+        if (req.description() != null) t.setDescription(req.description());
+
+        // Note: This preserves current semantics: only set when non-null is provided
+        if (req.categoryId() != null) {
+            t.setCategory(categoryLookup.apply(req.categoryId()));
+        }
+
+        if (req.assigneeId() != null) {
+            t.setAssignee(userLookup.apply(req.assigneeId()));
+        }
+
+        if (req.status() != null) {
+            t.setStatus(req.status());
+            if (req.status() == TaskStatus.COMPLETED) {
+                t.setCompletedAt(LocalDateTime.now());
+            }
+        }
+
+        if (req.dueDate() != null) t.setDueDate(req.dueDate());
+
+        statusCounter.transitioned(oldAssigneeId, oldStatus, assigneeIdOf(t), t.getStatus());
+        return before;
+    }
+
+    // Listeners (SSE stream, ...) run after commit, so rolled-back writes are never seen
+    // Every task write goes through one of these two
+    private TaskResponse published(TaskChangedEvent.Type type, TaskResponse dto) {
+        recentWriters.recordWrite();
+        events.publishEvent(new TaskChangedEvent(type, dto));
+        return dto;
+    }
+
+    private TaskResponse published(TaskResponse dto, Map<TaskField, Object> before) {
+        recentWriters.recordWrite();
+        events.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, dto, before));
+        return dto;
+    }
+
+    private static Integer assigneeIdOf(Task t) {
+        return t.getAssignee() != null ? t.getAssignee().getId() : null; // proxy id, no lazy load
+    }
+
+    private void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must not be empty.");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch too large: " + items.size() + " > " + MAX_BATCH_SIZE);
+        }
     }
 
-    private TaskResponse toDto(Task t) {
+    private static <T> Set<Integer> idsOf(List<T> items, Function<T, Integer> idGetter) {
+        var ids = new HashSet<Integer>();
+        for (T item : items) {
+            if (item == null) continue;
+            Integer id = idGetter.apply(item);
+            if (id != null) ids.add(id);
+        }
+        return ids;
+    }
+
+    private static <T> Map<Integer, T> byId(List<T> rows, Function<T, Integer> idGetter) {
+        var map = new HashMap<Integer, T>();
+        for (T row : rows) map.put(idGetter.apply(row), row);
+        return map;
+    }
+
+    private <T> T lookup(Map<Integer, T> byId, Integer id, String what) {
+        if (id == null) return null;
+        T found = byId.get(id);
+        if (found == null) throw notFound(what, id);
+        return found;
+    }
+
+    // package-private/static so the JMH mapping benchmark can call it directly
+    static TaskResponse toDto(Task t) {
         return new TaskResponse(
                 t.getId(),
                 t.getTitle(),
@@ -145,34 +434,102 @@ public class TaskService {
         );
     }
 
+    // Served from the maintained per-user counter; falls back to one grouped aggregate
+    @Transactional(readOnly = true)
+    public UserTaskStatsResponse statsForAssignee(Integer userId) {
+        findUser(userId);
+        var counts = statusCounter.get(userId, () -> countByStatus(userId));
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new UserTaskStatsResponse(userId, counts, total, counts.get(TaskStatus.PENDING));
+    }
+
+    // Recounts in the database (index-only aggregate) and reseeds the counter
     @Async
+    @Transactional(readOnly = true)
     public CompletableFuture<Integer> recomputeOpenTaskCount(Integer userId) {
-        var user = findUser(userId);
-        int count = tasks.findByAssignee(user).stream()
-                .mapToInt(t -> t.getStatus() == TaskStatus.PENDING ? 1 : 0)
-                .sum();
-        System.out.println("Running recomputeOpenTaskCount on thread: "
-                + Thread.currentThread().getName());
-        return CompletableFuture.completedFuture(count);
+        findUser(userId);
+        var counts = countByStatus(userId);
+        statusCounter.reset(userId, counts);
+        long open = counts.get(TaskStatus.PENDING);
+        log.debug("Recomputed open task count for user {}: {} (thread {})",
+                userId, open, Thread.currentThread().getName());
+        return CompletableFuture.completedFuture((int) open);
+    }
+
+    private Map<TaskStatus, Long> countByStatus(Integer userId) {
+        var counts = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        for (TaskStatus s : TaskStatus.values()) counts.put(s, 0L);
+        for (var row : tasks.countByStatusForAssignee(userId)) counts.put(row.getStatus(), row.getTotal());
+        return counts;
     }
 
     @Transactional(readOnly = true)
     public PageResponse<TaskResponse> list(TaskStatus status, Pageable pageable) {
-        Page<Task> page = (status == null)
-                ? tasks.findAll(pageable)
-                : tasks.findByStatus(status, pageable);
+        // Joined projection + separate count query: 2 round-trips per page regardless of size
+        Page<TaskResponse> page = (status == null)
+                ? tasks.findAllResponses(pageable)
+                : tasks.findResponsesByStatus(status, pageable);
+        snapshots.rememberAll(page.getContent());
 
-        var content = page.getContent().stream().map(this::toDto).toList();
         return new PageResponse<>(
-                content,
+                page.getContent(),
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.isFirst(),
-                page.isLast()
+                page.isLast(),
+                null
         );
     }
 
-}
+    // Keyset mode: WHERE id < cursor ORDER BY id DESC LIMIT n+1, no OFFSET scan and no count(*)
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> listAfter(TaskStatus status, String after, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        boolean first = (after == null || after.isBlank());
+        int before = first ? Integer.MAX_VALUE : Cursors.decodeInt(after);
+
+        // one extra row tells us whether there is a next page
+        var rows = (status == null)
+                ? tasks.findResponsesBefore(before, Limit.of(size + 1))
+                : tasks.findResponsesByStatusBefore(status, before, Limit.of(size + 1));
+
+        boolean hasMore = rows.size() > size;
+        var content = hasMore ? List.copyOf(rows.subList(0, size)) : rows;
+        String next = hasMore ? Cursors.encode(content.get(content.size() - 1).id()) : null;
+        snapshots.rememberAll(content);
+
+        return new PageResponse<>(content, 0, size, null, null, first, !hasMore, next);
+    }
+
+    // Sparse-fieldset versions of list/listAfter. Rows are partial, so no merge snapshots.
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> list(TaskStatus status, Pageable pageable, Set<TaskProperty> fields) {
+        TaskProperty.requireSortable(pageable.getSort());
+        var content = tasks.findSparse(fields, status, null, null, pageable.getSort(),
+                pageable.getOffset(), pageable.getPageSize());
+        long total = (status == null) ? tasks.count() : tasks.countByStatus(status);
+        var page = new PageImpl<>(content, pageable, total);
+
+        return new PageResponse<>(content, page.getNumber(), page.getSize(), page.getTotalElements(),
+                page.getTotalPages(), page.isFirst(), page.isLast(), null);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> listAfter(TaskStatus status, String after, int limit,
+                                                       Set<TaskProperty> fields) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        boolean first = (after == null || after.isBlank());
+        Integer before = first ? null : Cursors.decodeInt(after);
+
+        var rows = tasks.findSparse(fields, status, null, before, Sort.by(Sort.Direction.DESC, "id"), 0, size + 1);
 
+        boolean hasMore = rows.size() > size;
+        var content = hasMore ? List.copyOf(rows.subList(0, size)) : rows;
+        String next = hasMore ? Cursors.encode((Integer) content.get(content.size() - 1).get("id")) : null;
+
+        return new PageResponse<>(content, 0, size, null, null, first, !hasMore, next);
+    }
+
+}
@@ -0,0 +1,49 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+
+// Recent (id, version) -> state, so a merge can tell which fields changed since the version a
+// client started from. Fed by committed writes and by reads handed out to clients; bounded,
+// so an old or unseen base version simply means "cannot merge" (plain 409).
+@Component
+public class TaskSnapshotStore {
+
+    private record Key(Integer id, Integer version) {}
+
+    private final Cache<Key, TaskResponse> snapshots;
+
+    public TaskSnapshotStore(@Value("${todo.tasks.merge.snapshots:50000}") long maxSnapshots,
+                             @Value("${todo.tasks.merge.snapshot-ttl:30m}") Duration ttl) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSnapshots)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @TransactionalEventListener
+    public void on(TaskChangedEvent event) {
+        remember(event.task());
+    }
+
+    public void remember(TaskResponse task) {
+        if (task.id() != null && task.version() != null) {
+            snapshots.put(new Key(task.id(), task.version()), task);
+        }
+    }
+
+    public void rememberAll(Collection<TaskResponse> tasks) {
+        tasks.forEach(this::remember);
+    }
+
+    public TaskResponse find(Integer id, Integer version) {
+        return snapshots.getIfPresent(new Key(id, version));
+    }
+}
@@ -0,0 +1,91 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// Per-assignee task counts by status, seeded from the DB aggregate on first read and then
+// kept current by TaskService status/assignee transitions (applied after commit only).
+// Entries expire so any drift (e.g. a transition racing the seed, other instances' writes)
+// is bounded by the TTL.
+@Component
+public class TaskStatusCounter {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final boolean enabled;
+    private final Cache<Integer, AtomicLongArray> counts;
+
+    public TaskStatusCounter(@Value("${todo.tasks.status-counter.enabled:true}") boolean enabled,
+                             @Value("${todo.tasks.status-counter.ttl:5m}") Duration ttl,
+                             @Value("${todo.tasks.status-counter.max-users:100000}") long maxUsers) {
+        this.enabled = enabled;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Map<TaskStatus, Long> get(Integer userId, Supplier<Map<TaskStatus, Long>> loader) {
+        if (!enabled) return loader.get();
+        var arr = counts.get(userId, id -> toArray(loader.get()));
+        var result = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        for (TaskStatus s : STATUSES) result.put(s, arr.get(s.ordinal()));
+        return result;
+    }
+
+    public void reset(Integer userId, Map<TaskStatus, Long> fresh) {
+        if (enabled) counts.put(userId, toArray(fresh));
+    }
+
+    // Bulk writes (imports) skip per-row deltas; affected users reload on their next read
+    public void invalidate(Collection<Integer> userIds) {
+        counts.invalidateAll(userIds);
+    }
+
+    public void created(Integer assigneeId, TaskStatus status) {
+        adjust(assigneeId, status, 1);
+    }
+
+    public void transitioned(Integer oldAssigneeId, TaskStatus oldStatus, Integer newAssigneeId, TaskStatus newStatus) {
+        if (Objects.equals(oldAssigneeId, newAssigneeId) && oldStatus == newStatus) return;
+        adjust(oldAssigneeId, oldStatus, -1);
+        adjust(newAssigneeId, newStatus, 1);
+    }
+
+    private void adjust(Integer userId, TaskStatus status, long delta) {
+        if (!enabled || userId == null || status == null) return;
+        Runnable apply = () -> {
+            var arr = counts.getIfPresent(userId); // unseeded users are loaded fresh on next read
+            if (arr != null) arr.addAndGet(status.ordinal(), delta);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private static AtomicLongArray toArray(Map<TaskStatus, Long> byStatus) {
+        var arr = new AtomicLongArray(STATUSES.length);
+        byStatus.forEach((s, n) -> arr.set(s.ordinal(), n));
+        return arr;
+    }
+}
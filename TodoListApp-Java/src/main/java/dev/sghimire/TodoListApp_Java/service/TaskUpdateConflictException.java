@@ -0,0 +1,23 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.FieldConflict;
+import jakarta.persistence.OptimisticLockException;
+
+import java.util.List;
+
+// A merge-mode update that could not be applied automatically
+public class TaskUpdateConflictException extends OptimisticLockException {
+
+    private final Integer currentVersion;
+    private final List<FieldConflict> conflicts;
+
+    public TaskUpdateConflictException(String message, Integer currentVersion, List<FieldConflict> conflicts) {
+        super(message);
+        this.currentVersion = currentVersion;
+        this.conflicts = conflicts;
+    }
+
+    public Integer getCurrentVersion() { return currentVersion; }
+
+    public List<FieldConflict> getConflicts() { return conflicts; }
+}
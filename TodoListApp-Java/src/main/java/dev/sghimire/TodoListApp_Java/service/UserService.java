@@ -1,23 +1,39 @@
 package dev.sghimire.TodoListApp_Java.service;
 
+import dev.sghimire.TodoListApp_Java.config.CacheConfig;
+import dev.sghimire.TodoListApp_Java.config.RecentWriters;
 import dev.sghimire.TodoListApp_Java.dto.UserCreateRequest;
 import dev.sghimire.TodoListApp_Java.dto.UserResponse;
 import dev.sghimire.TodoListApp_Java.dto.UserUpdateRequest;
 import dev.sghimire.TodoListApp_Java.model.UserAccount;
 import dev.sghimire.TodoListApp_Java.repository.UserAccountRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Service
+@Timed("todo.service")
 public class UserService {
 
+    // V1's exact-match UNIQUE and V6's lower(email) index; a duplicate may trip either one
+    private static final Set<String> EMAIL_CONSTRAINTS = Set.of("users_email_key", "uq_users_email_lower");
+
     private final UserAccountRepository users;
+    private final ReferenceDataCache refData;
+    private final RecentWriters recentWriters;
 
-    public UserService(UserAccountRepository users) {
+    public UserService(UserAccountRepository users, ReferenceDataCache refData, RecentWriters recentWriters) {
         this.users = users;
+        this.refData = refData;
+        this.recentWriters = recentWriters;
     }
 
     @Transactional
@@ -28,17 +44,21 @@ public class UserService {
         if (name.isEmpty()) throw new IllegalArgumentException("Name must not be empty.");
         if (email.isEmpty()) throw new IllegalArgumentException("Email must not be empty.");
 
-        // Enforce unique email (case-insensitive)
-        users.findByEmailIgnoreCase(email).ifPresent(u -> {
-            throw new IllegalArgumentException("Email already exists: " + email);
-        });
-
         var u = new UserAccount();
         u.setName(name);
         u.setEmail(email);
 
-        var saved = users.save(u);
-        return toDto(saved);
+        // Unique email is enforced by the constraint (uq_users_email_lower), not a pre-read:
+        // one round trip fewer, and two concurrent creates can't both pass a check.
+        // Flush here so the violation surfaces inside this method.
+        try {
+            var saved = toDto(users.saveAndFlush(u));
+            recentWriters.recordWrite();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (!violatesEmailConstraint(e)) throw e; // e.g. a NOT NULL or length failure
+            throw new IllegalArgumentException("Email already exists: " + email);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -48,10 +68,12 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserResponse get(Integer id) {
-        return toDto(find(id));
+        return refData.user(id).map(this::toDto)
+                .orElseThrow(() -> new EntityNotFoundException("User not found: " + id));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public UserResponse update(Integer id, UserUpdateRequest req) {
         var u = find(id);
 
@@ -69,16 +91,30 @@ public class UserService {
             u.setEmail(email);
         }
 
+        recentWriters.recordWrite();
         return toDto(u); // dirty-check flush
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public void delete(Integer id) {
         var u = find(id);
         users.delete(u);
+        recentWriters.recordWrite();
     }
 
     // --- helpers ---
+    private static boolean violatesEmailConstraint(DataIntegrityViolationException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve) {
+                return cve.getConstraintName() != null
+                        && EMAIL_CONSTRAINTS.contains(cve.getConstraintName().toLowerCase(Locale.ROOT));
+            }
+        }
+        return false;
+    }
+
+    // Loads a managed instance (not the cached copy) so dirty checking applies
     private UserAccount find(Integer id) {
         return users.findById(id).orElseThrow(() -> new EntityNotFoundException("User not found: " + id));
     }
@@ -0,0 +1,46 @@
+-- =========================================================
+-- Baseline: the schema previously created by sql/datainit.sql / ddl-auto.
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate)
+-- and only receive the migrations after this one.
+-- =========================================================
+
+CREATE TYPE task_status AS ENUM ('PENDING', 'IN_PROGRESS', 'COMPLETED');
+
+CREATE TABLE users (
+  id SERIAL PRIMARY KEY,
+  name TEXT NOT NULL,
+  email TEXT UNIQUE NOT NULL,
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE categories (
+  id SERIAL PRIMARY KEY,
+  name TEXT NOT NULL UNIQUE
+);
+
+CREATE TABLE tasks (
+  id SERIAL PRIMARY KEY,
+  title TEXT NOT NULL,
+  description TEXT,
+  status task_status DEFAULT 'PENDING',
+  category_id INT REFERENCES categories(id) ON DELETE SET NULL,
+  assignee_id INT REFERENCES users(id) ON DELETE SET NULL,
+  created_by_id INT REFERENCES users(id) ON DELETE SET NULL,
+  due_date DATE,
+  completed_at TIMESTAMP,
+  version INT DEFAULT 0,
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE OR REPLACE FUNCTION set_updated_at() RETURNS TRIGGER AS $$
+BEGIN
+  NEW.updated_at = now();
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_set_updated_at
+BEFORE UPDATE ON tasks
+FOR EACH ROW
+EXECUTE PROCEDURE set_updated_at();
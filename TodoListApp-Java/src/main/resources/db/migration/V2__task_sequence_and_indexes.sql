@@ -0,0 +1,14 @@
+-- Pooled Hibernate sequence for Task ids (allocationSize = 50) so inserts can be batched
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
+
+-- GET /api/tasks?status=  (findResponsesByStatus / keyset WHERE status = ? AND id < ? ORDER BY id DESC)
+CREATE INDEX IF NOT EXISTS idx_tasks_status_id ON tasks (status, id DESC);
+
+-- /assignee/{userId}, /users/{id}/stats (group by status)
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_status ON tasks (assignee_id, status);
+
+-- findByCategoryAndStatus / countByCategory; also serves ON DELETE SET NULL from categories
+CREATE INDEX IF NOT EXISTS idx_tasks_category_status ON tasks (category_id, status);
+
+-- Open tasks by due date (reminders, overdue views); completed rows are never scanned
+CREATE INDEX IF NOT EXISTS idx_tasks_open_due_date ON tasks (due_date) WHERE status <> 'COMPLETED';
@@ -0,0 +1,9 @@
+-- Full-text search over title (weight A) and description (weight B) for GET /api/tasks/search.
+-- Generated column: Postgres keeps it current on every insert/update, no trigger or app code.
+ALTER TABLE tasks ADD COLUMN search_vector tsvector
+  GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+  ) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
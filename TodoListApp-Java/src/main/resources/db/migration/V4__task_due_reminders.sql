@@ -0,0 +1,16 @@
+-- Due-date reminders: reminder_sent_for records the due date a reminder went out for, so moving
+-- the due date re-arms the task. The partial index holds only open, not-yet-reminded tasks,
+-- ordered the way the scheduler claims them; reminded tasks drop out of it.
+ALTER TABLE tasks ADD COLUMN reminder_sent_for DATE;
+
+CREATE INDEX idx_tasks_reminder_pending ON tasks (due_date, id)
+  WHERE status <> 'COMPLETED' AND due_date IS NOT NULL AND reminder_sent_for IS DISTINCT FROM due_date;
+
+-- Marking a reminder is bookkeeping, not a change to the task: keep updated_at (and the list
+-- ETags built on it) untouched.
+DROP TRIGGER trg_set_updated_at ON tasks;
+CREATE TRIGGER trg_set_updated_at
+BEFORE UPDATE ON tasks
+FOR EACH ROW
+WHEN (OLD.reminder_sent_for IS NOT DISTINCT FROM NEW.reminder_sent_for)
+EXECUTE PROCEDURE set_updated_at();
@@ -0,0 +1,14 @@
+-- Append-only change journal, written behind the request path by TaskJournal.
+-- (task_id, version) is unique so replaying a batch after a crash is a no-op (ON CONFLICT DO
+-- NOTHING), and doubles as the index for per-task keyset paging (version DESC).
+-- No FK to tasks: history outlives the task it describes.
+CREATE TABLE task_history (
+  id BIGSERIAL PRIMARY KEY,
+  task_id INT NOT NULL,
+  version INT NOT NULL,
+  change_type VARCHAR(16) NOT NULL,
+  changed_by INT,
+  changed_at TIMESTAMP NOT NULL,
+  changes JSONB NOT NULL,          -- {"field": [from, to], ...}, changed fields only
+  CONSTRAINT uq_task_history_task_version UNIQUE (task_id, version)
+);
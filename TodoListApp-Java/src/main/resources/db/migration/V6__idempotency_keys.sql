@@ -0,0 +1,35 @@
+-- Idempotency-Key records for POST /api/tasks and POST /api/users when
+-- todo.idempotency.store=jdbc (shared across instances). response_status is NULL while the
+-- first request is still running.
+CREATE TABLE idempotency_keys (
+  scope VARCHAR(32) NOT NULL,
+  idem_key VARCHAR(255) NOT NULL,
+  fingerprint CHAR(64) NOT NULL,        -- SHA-256 of caller + request body
+  response_status INT,
+  response_body TEXT,
+  created_at TIMESTAMP NOT NULL DEFAULT now(),
+  PRIMARY KEY (scope, idem_key)
+);
+
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
+
+-- UserService.create now relies on the constraint instead of a pre-read; make it
+-- case-insensitive like the old findByEmailIgnoreCase check.
+-- Rows differing only in case (Bob@x.com / bob@x.com) would fail the index build with a bare
+-- duplicate-key error, so check first and name them. The app has always lower-cased emails,
+-- so only rows loaded outside it can collide: merge or rename those accounts (repointing
+-- their tasks), then re-run the migration.
+DO $$
+DECLARE
+  dupes TEXT;
+BEGIN
+  SELECT string_agg(e, ', ') INTO dupes FROM (
+    SELECT lower(email) AS e FROM users GROUP BY lower(email) HAVING count(*) > 1 ORDER BY 1 LIMIT 20
+  ) d;
+  IF dupes IS NOT NULL THEN
+    RAISE EXCEPTION 'users has emails that differ only in case: %', dupes
+      USING HINT = 'Merge or rename these accounts before creating uq_users_email_lower.';
+  END IF;
+END $$;
+
+CREATE UNIQUE INDEX uq_users_email_lower ON users (lower(email));
@@ -0,0 +1,35 @@
+-- Delta sync (GET /api/tasks/changes): keyset over (updated_at, id) for created/updated tasks,
+-- and (deleted_at, id) over tombstones written by a trigger for deletes.
+
+-- Inserts took updated_at from the application clock; stamp them with the database clock like
+-- updates, so the feed orders every change on one clock.
+CREATE TRIGGER trg_set_updated_at_insert
+BEFORE INSERT ON tasks
+FOR EACH ROW
+EXECUTE PROCEDURE set_updated_at();
+
+UPDATE tasks SET updated_at = now() WHERE updated_at IS NULL;
+ALTER TABLE tasks ALTER COLUMN updated_at SET NOT NULL;
+
+CREATE INDEX idx_tasks_updated_at_id ON tasks (updated_at, id);
+
+-- One row per deleted task, however it was deleted; purged after todo.tasks.changes.tombstone-retention
+CREATE TABLE task_tombstones (
+  id BIGSERIAL PRIMARY KEY,
+  task_id INT NOT NULL,
+  deleted_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_task_tombstones_deleted_at_id ON task_tombstones (deleted_at, id);
+
+CREATE OR REPLACE FUNCTION record_task_tombstone() RETURNS TRIGGER AS $$
+BEGIN
+  INSERT INTO task_tombstones (task_id) VALUES (OLD.id);
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_task_tombstone
+AFTER DELETE ON tasks
+FOR EACH ROW
+EXECUTE PROCEDURE record_task_tombstone();
@@ -0,0 +1,3 @@
+-- idx_tasks_open_due_date (V2) backs no query: the reminder scheduler reads
+-- idx_tasks_reminder_pending (V4). Dropping it saves a write per task insert/update.
+DROP INDEX IF EXISTS idx_tasks_open_due_date;
@@ -0,0 +1,38 @@
+-- Validator for the weak list ETags on GET /api/tasks and /api/tasks/assignee/{id}: bumped by
+-- every write to tasks, users or categories (list rows carry category and user names), so
+-- checking it is one read of a 64-row table instead of an aggregate over the filter.
+
+-- Writers bump the slot of their backend, so concurrent writers rarely wait on the same row;
+-- readers sum the slots. last_xact makes it one bump per transaction, not per statement.
+CREATE TABLE task_list_version (
+  slot INT PRIMARY KEY,
+  version BIGINT NOT NULL DEFAULT 0,
+  last_xact xid8
+);
+
+INSERT INTO task_list_version (slot) SELECT generate_series(0, 63);
+
+CREATE OR REPLACE FUNCTION bump_task_list_version() RETURNS TRIGGER AS $$
+BEGIN
+  UPDATE task_list_version
+  SET version = version + 1, last_xact = pg_current_xact_id()
+  WHERE slot = pg_backend_pid() % 64
+    AND last_xact IS DISTINCT FROM pg_current_xact_id();
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_list_version
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON tasks
+FOR EACH STATEMENT
+EXECUTE PROCEDURE bump_task_list_version();
+
+CREATE TRIGGER trg_users_list_version
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON users
+FOR EACH STATEMENT
+EXECUTE PROCEDURE bump_task_list_version();
+
+CREATE TRIGGER trg_categories_list_version
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON categories
+FOR EACH STATEMENT
+EXECUTE PROCEDURE bump_task_list_version();
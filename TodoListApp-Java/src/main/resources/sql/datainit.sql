@@ -1,8 +1,14 @@
 -- =========================================================
 -- Simple Collaborative To-Do App Schema + Sample Data
+-- Manual reset script for a scratch database. The application schema is
+-- managed by Flyway (db/migration); keep this file in sync with it.
 -- =========================================================
 
 -- Drop old tables if testing repeatedly
+DROP TABLE IF EXISTS task_history CASCADE;
+DROP TABLE IF EXISTS idempotency_keys CASCADE;
+DROP TABLE IF EXISTS task_tombstones CASCADE;
+DROP TABLE IF EXISTS task_list_version CASCADE;
 DROP TABLE IF EXISTS tasks CASCADE;
 DROP TABLE IF EXISTS categories CASCADE;
 DROP TABLE IF EXISTS users CASCADE;
@@ -38,9 +44,51 @@ CREATE TABLE tasks (
   completed_at TIMESTAMP,
   version INT DEFAULT 0,
   created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Task ids come from a pooled Hibernate sequence (allocationSize = 50), enabling batched inserts
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
+
+CREATE INDEX idx_tasks_status_id ON tasks (status, id DESC);
+CREATE INDEX idx_tasks_assignee_status ON tasks (assignee_id, status);
+CREATE INDEX idx_tasks_category_status ON tasks (category_id, status);
+CREATE INDEX idx_tasks_updated_at_id ON tasks (updated_at, id);
+
+ALTER TABLE tasks ADD COLUMN search_vector tsvector
+  GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+  ) STORED;
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+ALTER TABLE tasks ADD COLUMN reminder_sent_for DATE;
+CREATE INDEX idx_tasks_reminder_pending ON tasks (due_date, id)
+  WHERE status <> 'COMPLETED' AND due_date IS NOT NULL AND reminder_sent_for IS DISTINCT FROM due_date;
+
+CREATE TABLE task_history (
+  id BIGSERIAL PRIMARY KEY,
+  task_id INT NOT NULL,
+  version INT NOT NULL,
+  change_type VARCHAR(16) NOT NULL,
+  changed_by INT,
+  changed_at TIMESTAMP NOT NULL,
+  changes JSONB NOT NULL,
+  CONSTRAINT uq_task_history_task_version UNIQUE (task_id, version)
+);
+
+CREATE TABLE idempotency_keys (
+  scope VARCHAR(32) NOT NULL,
+  idem_key VARCHAR(255) NOT NULL,
+  fingerprint CHAR(64) NOT NULL,
+  response_status INT,
+  response_body TEXT,
+  created_at TIMESTAMP NOT NULL DEFAULT now(),
+  PRIMARY KEY (scope, idem_key)
+);
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
+CREATE UNIQUE INDEX uq_users_email_lower ON users (lower(email));
+
 -- Auto-update 'updated_at' field on modification
 CREATE OR REPLACE FUNCTION set_updated_at() RETURNS TRIGGER AS $$
 BEGIN
@@ -52,8 +100,67 @@ $$ LANGUAGE plpgsql;
 CREATE TRIGGER trg_set_updated_at
 BEFORE UPDATE ON tasks
 FOR EACH ROW
+WHEN (OLD.reminder_sent_for IS NOT DISTINCT FROM NEW.reminder_sent_for)  -- reminder bookkeeping
+EXECUTE PROCEDURE set_updated_at();
+
+CREATE TRIGGER trg_set_updated_at_insert
+BEFORE INSERT ON tasks
+FOR EACH ROW
 EXECUTE PROCEDURE set_updated_at();
 
+-- Deleted tasks for GET /api/tasks/changes
+CREATE TABLE task_tombstones (
+  id BIGSERIAL PRIMARY KEY,
+  task_id INT NOT NULL,
+  deleted_at TIMESTAMP NOT NULL DEFAULT now()
+);
+CREATE INDEX idx_task_tombstones_deleted_at_id ON task_tombstones (deleted_at, id);
+
+CREATE OR REPLACE FUNCTION record_task_tombstone() RETURNS TRIGGER AS $$
+BEGIN
+  INSERT INTO task_tombstones (task_id) VALUES (OLD.id);
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_task_tombstone
+AFTER DELETE ON tasks
+FOR EACH ROW
+EXECUTE PROCEDURE record_task_tombstone();
+
+-- List ETag validator, bumped once per writing transaction (see V9)
+CREATE TABLE task_list_version (
+  slot INT PRIMARY KEY,
+  version BIGINT NOT NULL DEFAULT 0,
+  last_xact xid8
+);
+INSERT INTO task_list_version (slot) SELECT generate_series(0, 63);
+
+CREATE OR REPLACE FUNCTION bump_task_list_version() RETURNS TRIGGER AS $$
+BEGIN
+  UPDATE task_list_version
+  SET version = version + 1, last_xact = pg_current_xact_id()
+  WHERE slot = pg_backend_pid() % 64
+    AND last_xact IS DISTINCT FROM pg_current_xact_id();
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_list_version
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON tasks
+FOR EACH STATEMENT
+EXECUTE PROCEDURE bump_task_list_version();
+
+CREATE TRIGGER trg_users_list_version
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON users
+FOR EACH STATEMENT
+EXECUTE PROCEDURE bump_task_list_version();
+
+CREATE TRIGGER trg_categories_list_version
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON categories
+FOR EACH STATEMENT
+EXECUTE PROCEDURE bump_task_list_version();
+
 -- =========================================================
 -- SAMPLE DATA
 -- =========================================================
@@ -0,0 +1,18 @@
+package dev.sghimire.TodoListApp_Java;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+// Throwaway Postgres for @SpringBootTest classes, so Flyway never migrates the datasource
+// configured in application.yaml. Pair with @Testcontainers(disabledWithoutDocker = true).
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgres() {
+        return new PostgreSQLContainer<>("postgres:16-alpine");
+    }
+}
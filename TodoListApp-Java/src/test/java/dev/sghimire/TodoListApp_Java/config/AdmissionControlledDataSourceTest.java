@@ -0,0 +1,140 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Permit accounting and pressure signals of the admission gate over a fake pool.
+// Throughput under load is measured by AdmissionThroughputBenchmark (src/jmh).
+class AdmissionControlledDataSourceTest {
+
+    @Test
+    void admitsAtMostPermitsConnectionsAndQueuesTheRest() throws Exception {
+        var pool = new FakePool();
+        var gated = new AdmissionControlledDataSource(pool, 2, Duration.ofSeconds(10));
+
+        Connection first = gated.getConnection();
+        Connection second = gated.getConnection();
+        assertThat(gated.inUse()).isEqualTo(2);
+
+        var third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return gated.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        awaitTrue(() -> gated.waiting() == 1);
+        assertThat(third).isNotDone();
+        assertThat(pool.open.get()).isEqualTo(2);
+
+        first.close();
+        Connection admitted = third.get(5, TimeUnit.SECONDS);
+        assertThat(gated.waiting()).isZero();
+        assertThat(gated.inUse()).isEqualTo(2);
+        assertThat(pool.maxOpen.get()).isEqualTo(2);
+
+        second.close();
+        admitted.close();
+        assertThat(gated.inUse()).isZero();
+    }
+
+    @Test
+    void timesOutWhenNoPermitFreesUp() throws Exception {
+        var gated = new AdmissionControlledDataSource(new FakePool(), 1, Duration.ofMillis(50));
+
+        try (Connection held = gated.getConnection()) {
+            long start = System.nanoTime();
+            assertThatThrownBy(gated::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class)
+                    .hasMessageContaining("Timed out");
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+            assertThat(gated.inUse()).isEqualTo(1);
+        }
+        assertThat(gated.inUse()).isZero();
+    }
+
+    @Test
+    void recentWaitRisesUnderContention() throws Exception {
+        var gated = new AdmissionControlledDataSource(new FakePool(), 1, Duration.ofMillis(20));
+        gated.getConnection().close();
+        Duration uncontended = gated.recentWait();
+
+        try (Connection held = gated.getConnection()) {
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(gated::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            }
+        }
+        assertThat(gated.recentWait()).isGreaterThan(uncontended).isGreaterThan(Duration.ofMillis(5));
+    }
+
+    @Test
+    void releasesThePermitWhenThePoolFails() {
+        var pool = new FakePool();
+        pool.failing.set(true);
+        var gated = new AdmissionControlledDataSource(pool, 1, Duration.ofSeconds(1));
+
+        assertThatThrownBy(gated::getConnection).isInstanceOf(SQLException.class).hasMessage("pool down");
+        assertThat(gated.inUse()).isZero();
+    }
+
+    @Test
+    void closingTwiceReturnsOnePermit() throws Exception {
+        var gated = new AdmissionControlledDataSource(new FakePool(), 2, Duration.ofSeconds(1));
+
+        Connection c = gated.getConnection();
+        Connection other = gated.getConnection();
+        c.close();
+        c.close();
+        assertThat(gated.inUse()).isEqualTo(1);
+        other.close();
+        assertThat(gated.inUse()).isZero();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    // Connections that do nothing; tracks open and peak counts
+    private static class FakePool extends AbstractDataSource {
+        final AtomicInteger open = new AtomicInteger();
+        final AtomicInteger maxOpen = new AtomicInteger();
+        final AtomicBoolean failing = new AtomicBoolean();
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (failing.get()) throw new SQLException("pool down");
+            maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+            var closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                            open.decrementAndGet();
+                        }
+                        return method.getReturnType() == boolean.class ? false : null;
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Admission gates with replica routing: one per pool, sized to that pool, and none over the router.
+// The pools are built but never started, so no database is needed.
+class ReplicaRoutingConfigTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReplicaRoutingConfig config = new ReplicaRoutingConfig();
+    private final MockEnvironment env = new MockEnvironment()
+            .withProperty("spring.datasource.hikari.maximum-pool-size", "6")
+            .withProperty("spring.datasource.hikari.minimum-idle", "2")
+            .withProperty("todo.datasource.routing.enabled", "true")
+            .withProperty("todo.datasource.admission.enabled", "true");
+
+    @AfterEach
+    void closePools() {
+        config.destroy();
+    }
+
+    @Test
+    void eachPoolGetsAGateSizedToIt() throws Exception {
+        DataSource routed = build();
+
+        assertThat(permits("primary")).isEqualTo(6);
+        assertThat(permits("replica-r1")).isEqualTo(3);
+        assertThat(permits("replica-r2")).isEqualTo(4);
+        // outside a transaction the router resolves to the primary's gate
+        assertThat(routed.unwrap(AdmissionControlledDataSource.class).permits()).isEqualTo(6);
+    }
+
+    @Test
+    void explicitPermitsSizeThePrimaryGateOnly() {
+        env.setProperty("todo.datasource.admission.permits", "2");
+        build();
+
+        assertThat(permits("primary")).isEqualTo(2);
+        assertThat(permits("replica-r1")).isEqualTo(3);
+    }
+
+    @Test
+    void theBeanPostProcessorLeavesTheRouterAlone() throws Exception {
+        DataSource routed = build();
+        var postProcessor = DataSourceAdmissionConfig.dataSourceAdmissionControl(env);
+
+        assertThat(postProcessor.postProcessAfterInitialization(routed, "dataSource")).isSameAs(routed);
+    }
+
+    @Test
+    void withoutAdmissionThePoolsAreUngated() throws Exception {
+        env.setProperty("todo.datasource.admission.enabled", "false");
+        DataSource routed = build();
+
+        assertThat(routed.isWrapperFor(AdmissionControlledDataSource.class)).isFalse();
+        assertThat(registry.find("todo.datasource.admission.in_use").gauges()).isEmpty();
+    }
+
+    private DataSource build() {
+        var replicas = config.replicaHealthMonitor(props(), primaryProps(), env, registry);
+        var writers = new RecentWriters(true, Duration.ofSeconds(5), "X-User-Id");
+        return config.dataSource(props(), primaryProps(), env, replicas, writers, registry);
+    }
+
+    private double permits(String pool) {
+        return registry.get("todo.datasource.admission.permits").tag("pool", pool).gauge().value();
+    }
+
+    private static ReplicaRoutingProperties props() {
+        return new ReplicaRoutingProperties(true, List.of(
+                new ReplicaRoutingProperties.Replica("r1", "jdbc:postgresql://replica-1/db", null, null, 3),
+                new ReplicaRoutingProperties.Replica("r2", "jdbc:postgresql://replica-2/db", null, null, 4)),
+                Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(5), "X-User-Id");
+    }
+
+    private static DataSourceProperties primaryProps() {
+        var props = new DataSourceProperties();
+        props.setUrl("jdbc:postgresql://primary/db");
+        props.setUsername("u");
+        return props;
+    }
+}
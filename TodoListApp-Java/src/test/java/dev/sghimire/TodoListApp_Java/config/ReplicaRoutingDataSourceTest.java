@@ -0,0 +1,196 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Routing decisions of the read/write router: replica for read-only work, primary for writes,
+// read-your-writes stickiness only after a committed write, and fallback when no replica is usable
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FakeDb primary = new FakeDb();
+    private final FakeDb replicaA = new FakeDb();
+    private final FakeDb replicaB = new FakeDb();
+    private final ReplicaHealthMonitor.Replica a = new ReplicaHealthMonitor.Replica("a", replicaA);
+    private final ReplicaHealthMonitor.Replica b = new ReplicaHealthMonitor.Replica("b", replicaB);
+    private final ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(List.of(a, b), Duration.ofSeconds(10), registry);
+    private final RecentWriters writers = new RecentWriters(true, Duration.ofMillis(200), "X-User-Id");
+    private final ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primary, monitor, writers, registry);
+
+    @BeforeEach
+    void setUp() {
+        router.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void readOnlyWorkIsSpreadOverHealthyReplicas() {
+        a.healthy = true;
+        b.healthy = true;
+
+        assertThat(List.of(route(true, "7"), route(true, "7"), route(true, null), route(true, null)))
+                .containsExactly(replicaA, replicaB, replicaA, replicaB);
+        assertThat(routed("replica", "read-only")).isEqualTo(4);
+    }
+
+    @Test
+    void writeTransactionsUseThePrimaryWithoutPinningTheCaller() {
+        a.healthy = true;
+
+        // a non-read-only transaction that never calls recordWrite, e.g. the change feed
+        assertThat(route(false, "7")).isSameAs(primary);
+        assertThat(route(true, "7")).isSameAs(replicaA);
+    }
+
+    @Test
+    void aCommittedWritePinsThatUsersReadsToThePrimaryForTheStickyWindow() throws InterruptedException {
+        a.healthy = true;
+
+        write("7", true);
+
+        assertThat(route(true, "7")).isSameAs(primary);
+        assertThat(route(true, "8")).isSameAs(replicaA);
+        assertThat(route(true, null)).isSameAs(replicaA);
+        assertThat(routed("primary", "sticky")).isEqualTo(1);
+
+        Thread.sleep(300);
+        assertThat(route(true, "7")).isSameAs(replicaA);
+    }
+
+    @Test
+    void aRolledBackWriteDoesNotPin() {
+        a.healthy = true;
+
+        write("7", false);
+
+        assertThat(route(true, "7")).isSameAs(replicaA);
+    }
+
+    @Test
+    void recordingIsOffWhenRoutingIsDisabled() {
+        var disabled = new RecentWriters(false, Duration.ofSeconds(5), "X-User-Id");
+        asUser("7");
+
+        disabled.recordWrite();
+
+        assertThat(disabled.isRecent("7")).isFalse();
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhenNoReplicaIsHealthy() {
+        assertThat(route(true, "7")).isSameAs(primary);
+        assertThat(routed("primary", "no-healthy-replica")).isEqualTo(1);
+
+        b.healthy = true;
+        assertThat(route(true, "7")).isSameAs(replicaB);
+    }
+
+    @Test
+    void healthCheckTakesLaggingAndUnreachableReplicasOutOfRotation() {
+        replicaA.lagSeconds = 0.5;
+        replicaB.lagSeconds = 30.0;      // over max-lag
+        monitor.check();
+        assertThat(a.healthy).isTrue();
+        assertThat(b.healthy).isFalse();
+        assertThat(route(true, null)).isSameAs(replicaA);
+        assertThat(route(true, null)).isSameAs(replicaA);
+
+        replicaA.lagSeconds = null;      // unreachable
+        replicaB.lagSeconds = 1.0;       // caught up
+        monitor.check();
+        assertThat(a.healthy).isFalse();
+        assertThat(a.lagSeconds).isNaN();
+        assertThat(route(true, null)).isSameAs(replicaB);
+    }
+
+    private DataSource route(boolean readOnly, String user) {
+        asUser(user);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            return router.determineTargetDataSource();
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    // One write transaction by user, completed as committed or rolled back
+    private void write(String user, boolean commit) {
+        asUser(user);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writers.recordWrite();
+            writers.recordWrite();
+            List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+            assertThat(syncs).hasSize(1); // once per transaction
+            if (commit) syncs.forEach(TransactionSynchronization::afterCommit);
+            syncs.forEach(s -> s.afterCompletion(commit
+                    ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    private static void asUser(String user) {
+        var request = new MockHttpServletRequest();
+        if (user != null) request.addHeader("X-User-Id", user);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private double routed(String target, String reason) {
+        return registry.get("todo.datasource.routed").tags("target", target, "reason", reason).counter().count();
+    }
+
+    // Answers the health check's lag query with lagSeconds; null makes it unreachable
+    private static class FakeDb extends AbstractDataSource {
+        volatile Double lagSeconds = 0.0;
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Double lag = lagSeconds;
+            if (lag == null) throw new SQLException("connection refused");
+            ResultSet rs = proxy(ResultSet.class, (p, m, args) -> switch (m.getName()) {
+                case "next" -> true;
+                case "getDouble" -> lag;
+                default -> null;
+            });
+            Statement st = proxy(Statement.class, (p, m, args) -> m.getName().equals("executeQuery") ? rs : null);
+            return proxy(Connection.class, (p, m, args) -> m.getName().equals("createStatement") ? st : null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every http.server.requests observation carries the same tag keys, counted or not
+class SqlCountObservationConventionTest {
+
+    private final SqlCountObservationConvention convention = new SqlCountObservationConvention();
+
+    @Test
+    void tagsCountedRequestsWithTheirBucket() {
+        var request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setAttribute(SqlCountFilter.BUCKET_ATTRIBUTE, "3-5");
+
+        assertThat(convention.getLowCardinalityKeyValues(context(request)))
+                .contains(KeyValue.of("sql.statements", "3-5"));
+    }
+
+    @Test
+    void tagsUncountedRequestsWithNone() {
+        var request = new MockHttpServletRequest("GET", "/actuator/health");
+
+        assertThat(convention.getLowCardinalityKeyValues(context(request)))
+                .contains(KeyValue.of("sql.statements", "none"));
+    }
+
+    @Test
+    void keepsTheDefaultKeys() {
+        var counted = new MockHttpServletRequest("GET", "/api/tasks");
+        counted.setAttribute(SqlCountFilter.BUCKET_ATTRIBUTE, "0");
+        var uncounted = new MockHttpServletRequest("GET", "/actuator/health");
+
+        var countedKeys = convention.getLowCardinalityKeyValues(context(counted)).stream().map(KeyValue::getKey).toList();
+        var uncountedKeys = convention.getLowCardinalityKeyValues(context(uncounted)).stream().map(KeyValue::getKey).toList();
+        assertThat(countedKeys).contains("method", "uri", "status", "outcome", "exception", "sql.statements");
+        assertThat(countedKeys).containsExactlyInAnyOrderElementsOf(uncountedKeys);
+    }
+
+    private static ServerRequestObservationContext context(MockHttpServletRequest request) {
+        return new ServerRequestObservationContext(request, new MockHttpServletResponse());
+    }
+}
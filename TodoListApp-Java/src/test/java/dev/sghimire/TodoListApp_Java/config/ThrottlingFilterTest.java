@@ -0,0 +1,97 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Which requests the filter turns away, and how: per-address and per-user buckets, shedding on
+// the pool-wait signal, Retry-After and the throttled counter
+class ThrottlingFilterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicReference<Duration> poolWait = new AtomicReference<>(Duration.ZERO);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ThrottlingFilter filter = new ThrottlingFilter(
+            new TokenBucketRateLimiter(2, 1, Duration.ofMinutes(10), 1000, now::get),
+            new TokenBucketRateLimiter(5, 1, Duration.ofMinutes(10), 1000, now::get),
+            poolWait::get, Duration.ofMillis(250), Duration.ofSeconds(3), new ObjectMapper(), registry);
+
+    @Test
+    void eachUserIdGetsItsOwnBucket() throws Exception {
+        assertThat(send("10.0.0.1", "7")).isEqualTo(200);
+        assertThat(send("10.0.0.1", "7")).isEqualTo(200);
+
+        var response = response("10.0.0.1", "7");
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("Rate limit exceeded");
+
+        assertThat(send("10.0.0.1", "8")).isEqualTo(200);
+        assertThat(registry.get("todo.http.throttled").tag("reason", "rate-limit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rotatingUserIdsStillRunsIntoTheAddressBucket() throws Exception {
+        for (int i = 0; i < 5; i++) assertThat(send("10.0.0.1", "u" + i)).isEqualTo(200);
+
+        assertThat(send("10.0.0.1", "fresh")).isEqualTo(429);
+        assertThat(send("10.0.0.1", null)).isEqualTo(429);
+        assertThat(send("10.0.0.2", "fresh")).isEqualTo(200);
+    }
+
+    @Test
+    void anotherAddressCannotDrainAUsersBucketBeyondItsOwnLimit() throws Exception {
+        // the victim's bucket is shared by id, but the attacker's address runs dry after 5
+        for (int i = 0; i < 10; i++) send("10.6.6.6", null);
+        assertThat(send("10.6.6.6", "7")).isEqualTo(429);
+
+        assertThat(send("10.0.0.1", "7")).isEqualTo(200);
+    }
+
+    @Test
+    void shedsWhileThePoolWaitIsOverTheLimit() throws Exception {
+        poolWait.set(Duration.ofMillis(400));
+
+        var response = response("10.0.0.1", "7");
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("3");
+        assertThat(registry.get("todo.http.throttled").tag("reason", "overload").counter().count()).isEqualTo(1);
+
+        poolWait.set(Duration.ofMillis(100));
+        assertThat(send("10.0.0.1", "7")).isEqualTo(200);
+    }
+
+    @Test
+    void corsPreflightPassesThrough() throws Exception {
+        poolWait.set(Duration.ofSeconds(5));
+        var request = new MockHttpServletRequest("OPTIONS", "/api/tasks");
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    private int send(String address, String userId) throws Exception {
+        return response(address, userId).getStatus();
+    }
+
+    private MockHttpServletResponse response(String address, String userId) throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setRemoteAddr(address);
+        if (userId != null) request.addHeader("X-User-Id", userId);
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.sghimire.TodoListApp_Java.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Burst, refill and Retry-After of the token bucket, on a hand-driven clock
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TokenBucketRateLimiter limiter =
+            new TokenBucketRateLimiter(3, 10, Duration.ofMinutes(10), 1000, now::get);
+
+    @Test
+    void allowsABurstOfCapacityThenSaysWhenTheNextTokenArrives() {
+        for (int i = 0; i < 3; i++) assertThat(limiter.tryAcquire("a").allowed()).isTrue();
+
+        var denied = limiter.tryAcquire("a");
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.retryAfter()).isEqualTo(Duration.ofMillis(100)); // 10 per second
+
+        advance(Duration.ofMillis(40));
+        assertThat(limiter.tryAcquire("a").retryAfter()).isEqualTo(Duration.ofMillis(60));
+    }
+
+    @Test
+    void refillsAtTheSustainedRateUpToCapacity() {
+        for (int i = 0; i < 3; i++) limiter.tryAcquire("a");
+
+        advance(Duration.ofMillis(200));
+        assertThat(limiter.tryAcquire("a").allowed()).isTrue();
+        assertThat(limiter.tryAcquire("a").allowed()).isTrue();
+        assertThat(limiter.tryAcquire("a").allowed()).isFalse();
+
+        // a long idle spell refills to capacity, not beyond
+        advance(Duration.ofMinutes(1));
+        for (int i = 0; i < 3; i++) assertThat(limiter.tryAcquire("a").allowed()).isTrue();
+        assertThat(limiter.tryAcquire("a").allowed()).isFalse();
+    }
+
+    @Test
+    void keysHaveTheirOwnBuckets() {
+        for (int i = 0; i < 3; i++) limiter.tryAcquire("a");
+
+        assertThat(limiter.tryAcquire("a").allowed()).isFalse();
+        assertThat(limiter.tryAcquire("b").allowed()).isTrue();
+    }
+
+    private void advance(Duration d) {
+        now.addAndGet(d.toNanos());
+    }
+}
@@ -0,0 +1,127 @@
+package dev.sghimire.TodoListApp_Java.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.sghimire.TodoListApp_Java.config.MessageConverterConfig;
+import dev.sghimire.TodoListApp_Java.config.SecurityConfig;
+import dev.sghimire.TodoListApp_Java.dto.PageResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import dev.sghimire.TodoListApp_Java.service.TaskChangeFeed;
+import dev.sghimire.TodoListApp_Java.service.TaskEventStream;
+import dev.sghimire.TodoListApp_Java.service.TaskExporter;
+import dev.sghimire.TodoListApp_Java.service.TaskImporter;
+import dev.sghimire.TodoListApp_Java.service.TaskJournal;
+import dev.sghimire.TodoListApp_Java.service.TaskSearchService;
+import dev.sghimire.TodoListApp_Java.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Which converter MessageConverterConfig hands each Accept to on the task list endpoints. The
+// compact converter only wins because it is registered ahead of the JSON one, which claims
+// application/*+json too; this pins that down along with CBOR, Smile and the JSON default.
+@WebMvcTest(TaskController.class)
+@Import({MessageConverterConfig.class, SecurityConfig.class})
+class TaskControllerEncodingTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper json;
+
+    @MockitoBean TaskService service;
+    @MockitoBean TaskEventStream stream;
+    @MockitoBean TaskSearchService search;
+    @MockitoBean TaskExporter exporter;
+    @MockitoBean TaskImporter importer;
+    @MockitoBean TaskJournal journal;
+    @MockitoBean IdempotentRequests idempotent;
+    @MockitoBean TaskChangeFeed changes;
+
+    private final List<TaskResponse> tasks = List.of(
+            new TaskResponse(2, "second", null, TaskStatus.PENDING, 5, "work", 7, "ann", 7, "ann", null, null, 0),
+            new TaskResponse(1, "first", "d", TaskStatus.COMPLETED, null, null, null, null, 8, "bob", null, null, 3));
+
+    @BeforeEach
+    void stubService() {
+        when(service.withListVersion(any())).thenAnswer(inv -> inv.<LongFunction<?>>getArgument(0).apply(42L));
+        when(service.list(isNull(), any())).thenReturn(new PageResponse<>(tasks, 0, 10, 2L, 1, true, true, null));
+        when(service.byAssignee(anyInt())).thenReturn(tasks);
+    }
+
+    @Test
+    void jsonIsTheDefault() throws Exception {
+        for (String accept : new String[]{null, "*/*", "application/json"}) {
+            var request = get("/api/tasks");
+            if (accept != null) request.header(HttpHeaders.ACCEPT, accept);
+            var result = mvc.perform(request).andExpect(status().isOk()).andReturn();
+
+            assertThat(contentType(result)).as(accept).startsWith("application/json");
+            assertThat(json.readTree(result.getResponse().getContentAsByteArray()).get("content").get(0).get("title").asText())
+                    .isEqualTo("second");
+        }
+    }
+
+    @Test
+    void compactJsonForPagesAndLists() throws Exception {
+        for (String path : new String[]{"/api/tasks", "/api/tasks/assignee/7"}) {
+            var result = mvc.perform(get(path).header(HttpHeaders.ACCEPT, "application/vnd.todo.compact+json"))
+                    .andExpect(status().isOk()).andReturn();
+
+            assertThat(contentType(result)).as(path).startsWith("application/vnd.todo.compact+json");
+            JsonNode body = json.readTree(result.getResponse().getContentAsByteArray());
+            assertThat(body.get("columns").get(1).asText()).isEqualTo("title");
+            assertThat(body.get("rows").get(0).get(1).asText()).isEqualTo("second");
+            assertThat(body.get("users").get("8").asText()).isEqualTo("bob");
+        }
+    }
+
+    @Test
+    void otherBodiesAskedForAsCompactGetTheRegularJsonShape() throws Exception {
+        when(service.get(1)).thenReturn(tasks.get(1));
+
+        // the compact converter declines a single task; the JSON converter takes the +json type
+        var result = mvc.perform(get("/api/tasks/1").header(HttpHeaders.ACCEPT, "application/vnd.todo.compact+json"))
+                .andExpect(status().isOk()).andReturn();
+
+        JsonNode body = json.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("title").asText()).isEqualTo("first");
+        assertThat(body.has("columns")).isFalse();
+    }
+
+    @Test
+    void cborAndSmileCarryTheSameStructure() throws Exception {
+        for (var format : List.of(new ObjectMapper(new CBORFactory()), new ObjectMapper(new SmileFactory()))) {
+            String type = format.getFactory() instanceof CBORFactory ? "application/cbor" : "application/x-jackson-smile";
+            var result = mvc.perform(get("/api/tasks").header(HttpHeaders.ACCEPT, type))
+                    .andExpect(status().isOk()).andReturn();
+
+            assertThat(contentType(result)).isEqualTo(type);
+            JsonNode body = format.readTree(result.getResponse().getContentAsByteArray());
+            assertThat(body.get("content").get(1).get("status").asText()).isEqualTo("COMPLETED");
+            assertThat(body.get("totalElements").asLong()).isEqualTo(2);
+        }
+    }
+
+    private static String contentType(MvcResult result) {
+        return result.getResponse().getContentType();
+    }
+}
@@ -0,0 +1,127 @@
+package dev.sghimire.TodoListApp_Java.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sghimire.TodoListApp_Java.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// GET /api/tasks/export over a real server: the whole table streamed as NDJSON or CSV with names
+// joined in, the status filter, and gzip only when the client's Accept-Encoding asks for it
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todo.reminders.initial-delay=1h",
+        "todo.tasks.journal.enabled=false",
+        "todo.tasks.export.fetch-size=2"           // several round trips on the cursor
+})
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TaskExportTest {
+
+    @LocalServerPort int port;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired ObjectMapper mapper;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    String tag;
+    int userId;
+    List<Integer> ids;
+
+    @BeforeEach
+    void seed() {
+        tag = UUID.randomUUID().toString();
+        userId = jdbc.queryForObject("INSERT INTO users (name, email) VALUES ('exporter', ?) RETURNING id",
+                Integer.class, "export-" + tag + "@example.com");
+        int categoryId = jdbc.queryForObject("INSERT INTO categories (name) VALUES (?) RETURNING id",
+                Integer.class, "export-" + tag);
+        ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(jdbc.queryForObject("""
+                    INSERT INTO tasks (title, description, status, category_id, assignee_id, created_by_id)
+                    VALUES (?, ?, CAST(? AS task_status), ?, ?, ?) RETURNING id
+                    """, Integer.class, "export " + i + " " + tag, "line one\nline \"two\", with comma",
+                    i < 2 ? "COMPLETED" : "PENDING", categoryId, userId, userId));
+        }
+    }
+
+    @Test
+    void ndjsonStreamsOneTaskPerLineWithNamesJoinedIn() throws Exception {
+        var response = get("/api/tasks/export?format=ndjson", false);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                v -> assertThat(v).startsWith("application/x-ndjson"));
+        assertThat(response.headers().firstValue("Content-Disposition")).hasValueSatisfying(
+                v -> assertThat(v).contains("tasks.ndjson"));
+
+        var ours = new ArrayList<JsonNode>();
+        for (String line : text(response, false).split("\n")) {
+            JsonNode task = mapper.readTree(line);   // every line is a complete document
+            if (task.get("title").asText().endsWith(tag)) ours.add(task);
+        }
+        assertThat(ours).extracting(t -> t.get("id").asInt()).containsExactlyElementsOf(ids);
+        assertThat(ours.get(0).get("categoryName").asText()).isEqualTo("export-" + tag);
+        assertThat(ours.get(0).get("assigneeName").asText()).isEqualTo("exporter");
+        assertThat(ours.get(0).get("description").asText()).isEqualTo("line one\nline \"two\", with comma");
+    }
+
+    @Test
+    void csvHasAHeaderQuotesAndTheStatusFilter() throws Exception {
+        var response = get("/api/tasks/export?format=csv&status=COMPLETED", false);
+        String body = text(response, false);
+
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                v -> assertThat(v).startsWith("text/csv"));
+        assertThat(body).startsWith("id,title,description,status,categoryId,categoryName,assigneeId,assigneeName,"
+                + "createdById,createdByName,dueDate,completedAt,version\r\n");
+        assertThat(body).contains(ids.get(0) + ",export 0 " + tag + ",\"line one\nline \"\"two\"\", with comma\",COMPLETED,");
+        assertThat(body).contains("export 1 " + tag).doesNotContain("export 2 " + tag);
+    }
+
+    @Test
+    void compressesOnlyWhenTheClientAcceptsGzip() throws Exception {
+        var plain = get("/api/tasks/export?format=csv", false);
+        var zipped = get("/api/tasks/export?format=csv", true);
+
+        assertThat(plain.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(zipped.headers().firstValue("Content-Encoding")).contains("gzip");
+        assertThat(text(zipped, true)).contains("export 4 " + tag);
+
+        // the old ?gzip=true no longer forces an encoding the client did not ask for
+        assertThat(get("/api/tasks/export?format=csv&gzip=true", false).headers().firstValue("Content-Encoding"))
+                .isEmpty();
+    }
+
+    private HttpResponse<byte[]> get(String path, boolean acceptGzip) throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptGzip) request.header("Accept-Encoding", "gzip");
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String text(HttpResponse<byte[]> response, boolean gzipped) throws IOException {
+        if (!gzipped) return new String(response.body(), StandardCharsets.UTF_8);
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
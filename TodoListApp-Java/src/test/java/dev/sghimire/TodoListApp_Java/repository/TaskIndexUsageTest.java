@@ -0,0 +1,119 @@
+package dev.sghimire.TodoListApp_Java.repository;
+
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import dev.sghimire.TodoListApp_Java.service.TaskChangeFeed;
+import dev.sghimire.TodoListApp_Java.service.TaskReminderScheduler;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Loads a skewed data set (most tasks COMPLETED) into a throwaway Postgres, runs the real
+// repository/service calls and checks the plans Postgres actually chose for the SQL Hibernate
+// and JdbcTemplate sent, with their bound parameters. auto_explain logs every statement's plan
+// to the container log; each call is bracketed by marker queries to find its plans there.
+// Sequential scans stay enabled: the planner has to prefer the index on its own.
+@SpringBootTest(properties = {
+        "todo.reminders.initial-delay=1h",      // poll() is called by the test, not the scheduler
+        "todo.tasks.journal.enabled=false",
+        "todo.throttling.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskIndexUsageTest {
+
+    static final int TASKS = 200_000;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres",
+                    "-c", "shared_preload_libraries=auto_explain",
+                    "-c", "auto_explain.log_min_duration=0");
+
+    @Autowired TaskRepository tasks;
+    @Autowired CategoryRepository categories;
+    @Autowired TaskChangeFeed changes;
+    @Autowired TaskReminderScheduler reminders;
+    @Autowired JdbcTemplate jdbc;
+
+    @BeforeAll
+    void seed() {
+        jdbc.execute("INSERT INTO users (name, email) SELECT 'u' || g, 'u' || g || '@example.com' FROM generate_series(1, 2000) g");
+        jdbc.execute("INSERT INTO categories (name) SELECT 'c' || g FROM generate_series(1, 50) g");
+        jdbc.execute("""
+                INSERT INTO tasks (id, title, status, category_id, assignee_id, created_by_id, due_date)
+                SELECT g, 'task ' || g,
+                       (CASE WHEN g % 20 = 0 THEN 'PENDING' WHEN g % 20 = 1 THEN 'IN_PROGRESS' ELSE 'COMPLETED' END)::task_status,
+                       1 + g % 50, 1 + g % 2000, 1 + g % 2000,
+                       CURRENT_DATE + (g % 60) - 30
+                FROM generate_series(1, %d) g
+                """.formatted(TASKS));
+        jdbc.execute("ANALYZE");
+    }
+
+    Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of("findResponsesByStatus (page)", (Runnable) () ->
+                                tasks.findResponsesByStatus(TaskStatus.PENDING, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"))),
+                        "idx_tasks_status_id"),
+                Arguments.of("findResponsesByStatusBefore", (Runnable) () ->
+                                tasks.findResponsesByStatusBefore(TaskStatus.PENDING, TASKS / 2, Limit.of(21)),
+                        "idx_tasks_status_id"),
+                Arguments.of("findResponsesByAssigneeId", (Runnable) () ->
+                                tasks.findResponsesByAssigneeId(7),
+                        "idx_tasks_assignee_status"),
+                Arguments.of("countByStatusForAssignee", (Runnable) () ->
+                                tasks.countByStatusForAssignee(7),
+                        "idx_tasks_assignee_status"),
+                Arguments.of("findByCategoryAndStatus", (Runnable) () ->
+                                tasks.findByCategoryAndStatus(categories.getReferenceById(3), TaskStatus.PENDING),
+                        "idx_tasks_category_status"),
+                Arguments.of("countByCategory", (Runnable) () ->
+                                tasks.countByCategory(categories.getReferenceById(3)),
+                        "idx_tasks_category_status"),
+                Arguments.of("reminder claim", (Runnable) () -> reminders.poll(),
+                        "idx_tasks_reminder_pending"),
+                Arguments.of("change feed page", (Runnable) () -> changes.changes(null, 100),
+                        "idx_tasks_updated_at_id"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void planUsesIndex(String name, Runnable call, String index) throws InterruptedException {
+        assertThat(plansOf(call)).as(name).contains(index);
+    }
+
+    // Text of every plan auto_explain logged while call ran
+    private String plansOf(Runnable call) throws InterruptedException {
+        String marker = UUID.randomUUID().toString();
+        jdbc.queryForObject("SELECT 'begin-" + marker + "'", String.class);
+        call.run();
+        jdbc.queryForObject("SELECT 'end-" + marker + "'", String.class);
+
+        // docker log delivery lags a little behind the server
+        for (int attempt = 0; attempt < 50; attempt++) {
+            String logs = postgres.getLogs();
+            int end = logs.indexOf("'end-" + marker + "'");
+            if (end >= 0) return logs.substring(logs.indexOf("'begin-" + marker + "'"), end);
+            Thread.sleep(100);
+        }
+        throw new AssertionError("auto_explain output for " + marker + " not found in the container log");
+    }
+}
@@ -0,0 +1,160 @@
+package dev.sghimire.TodoListApp_Java.repository;
+
+import dev.sghimire.TodoListApp_Java.TestcontainersConfiguration;
+import dev.sghimire.TodoListApp_Java.service.TaskService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The SQL Hibernate generates for ?fields= reads, captured by a StatementInspector: only the
+// requested columns, joins only for *Name properties; and unknown fields or sort keys are a 400
+@SpringBootTest(properties = {
+        "todo.reminders.initial-delay=1h",
+        "todo.tasks.journal.enabled=false",
+        "todo.throttling.enabled=false"
+})
+@AutoConfigureMockMvc
+@Import({TestcontainersConfiguration.class, TaskSparseRepositoryTest.CaptureSql.class})
+@Testcontainers(disabledWithoutDocker = true)
+class TaskSparseRepositoryTest {
+
+    private static final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+
+    // Runs after MetricsConfig's customizer and keeps its SqlStatementCounter in the chain
+    @TestConfiguration(proxyBeanMethods = false)
+    static class CaptureSql {
+        @Bean
+        @Order(Ordered.LOWEST_PRECEDENCE)
+        HibernatePropertiesCustomizer captureSql() {
+            return props -> {
+                var next = (StatementInspector) props.get(AvailableSettings.STATEMENT_INSPECTOR);
+                props.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                    var sink = captured.get();
+                    if (sink != null) sink.add(sql);
+                    return next != null ? next.inspect(sql) : sql;
+                });
+            };
+        }
+    }
+
+    @Autowired TaskRepository tasks;
+    @Autowired TaskService service;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired MockMvc mvc;
+
+    @BeforeEach
+    void seed() {
+        int userId = jdbc.queryForObject("INSERT INTO users (name, email) VALUES ('sparse', ?) RETURNING id",
+                Integer.class, "sparse-" + UUID.randomUUID() + "@example.com");
+        int categoryId = jdbc.queryForObject("INSERT INTO categories (name) VALUES (?) RETURNING id",
+                Integer.class, "sparse-" + UUID.randomUUID());
+        jdbc.update("INSERT INTO tasks (title, category_id, assignee_id, created_by_id) VALUES ('sparse', ?, ?, ?)",
+                categoryId, userId, userId);
+    }
+
+    @Test
+    void selectsOnlyTheRequestedColumnsFromTasksAlone() {
+        var sql = capture(() -> tasks.findSparse(TaskProperty.parse("title,status"), null, null, null,
+                Sort.by(Sort.Direction.DESC, "id"), 0, 5));
+
+        assertThat(sql).hasSize(1);
+        assertThat(selectedColumns(sql.get(0))).containsExactly("id", "title", "status");
+        assertThat(fromClause(sql.get(0))).isEqualTo("tasks");
+    }
+
+    @Test
+    void foreignKeyIdsComeFromTheTasksRowWithoutAJoin() {
+        var sql = capture(() -> tasks.findSparse(TaskProperty.parse("categoryId,assigneeId,createdById"),
+                null, null, null, Sort.by("id"), 0, 5));
+
+        assertThat(selectedColumns(sql.get(0))).containsExactly("id", "category_id", "assignee_id", "created_by_id");
+        assertThat(fromClause(sql.get(0))).isEqualTo("tasks");
+    }
+
+    @Test
+    void aNamePropertyJoinsJustItsTable() {
+        var sql = capture(() -> tasks.findSparse(Set.of(TaskProperty.ID, TaskProperty.CATEGORY_NAME),
+                null, null, null, Sort.by("id"), 0, 5));
+
+        assertThat(selectedColumns(sql.get(0))).containsExactly("id", "name");
+        assertThat(fromClause(sql.get(0))).isEqualTo("tasks left join categories");
+    }
+
+    @Test
+    void theServicePageIsTheSparseSelectPlusACount() {
+        var sql = capture(() -> service.list(null, PageRequest.of(0, 5, Sort.by("dueDate")),
+                TaskProperty.parse("title,dueDate")));
+
+        assertThat(sql).hasSize(2);
+        assertThat(selectedColumns(sql.get(0))).containsExactly("id", "title", "due_date");
+        assertThat(sql).noneMatch(s -> s.toLowerCase().contains(" join "));
+    }
+
+    @Test
+    void unknownFieldsAndSortKeysAreBadRequests() throws Exception {
+        mvc.perform(get("/api/tasks").param("fields", "title,nope"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown task field: nope"));
+        mvc.perform(get("/api/tasks").param("fields", "title").param("sort", "nope,desc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown sort property: nope"));
+        // a joined name is a field, not a sort key
+        mvc.perform(get("/api/tasks").param("fields", "title").param("sort", "categoryName"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/tasks").param("fields", "title").param("sort", "dueDate,desc"))
+                .andExpect(status().isOk());
+    }
+
+    private static List<String> capture(Runnable action) {
+        var sink = new ArrayList<String>();
+        captured.set(sink);
+        try {
+            action.run();
+        } finally {
+            captured.remove();
+        }
+        return sink;
+    }
+
+    // "select t1_0.id,t1_0.title from ..." -> [id, title]
+    private static List<String> selectedColumns(String sql) {
+        String s = sql.toLowerCase();
+        String list = s.substring(s.indexOf("select ") + 7, s.indexOf(" from "));
+        return Arrays.stream(list.split(","))
+                .map(c -> c.trim().replaceFirst("^\\w+\\.", ""))
+                .toList();
+    }
+
+    // tables and join kinds between FROM and WHERE/ORDER BY/OFFSET, aliases and ON clauses dropped
+    private static String fromClause(String sql) {
+        String s = sql.toLowerCase();
+        String from = s.substring(s.indexOf(" from ") + 6).split(" where | order by | offset | fetch | limit ")[0];
+        return from.replaceAll(" on [^ ]+", "").replaceAll("(\\w+) \\w+_\\d+", "$1").trim();
+    }
+}
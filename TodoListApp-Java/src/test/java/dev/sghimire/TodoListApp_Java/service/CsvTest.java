@@ -0,0 +1,81 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// RFC 4180 writer and record reader: quoting, escapes, line endings and line numbers
+class CsvTest {
+
+    @Test
+    void quotesOnlyWhatNeedsIt() throws IOException {
+        var out = new StringWriter();
+        Csv.writeRow(out, 1, "plain", "a,b", "say \"hi\"", "two\nlines", null, "");
+
+        assertThat(out.toString()).isEqualTo("1,plain,\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",,\"\"\r\n");
+    }
+
+    @Test
+    void readsQuotedSeparatorsEscapesAndLineBreaks() throws IOException {
+        var records = readAll("title,description\r\n"
+                + "\"a,b\",\"say \"\"hi\"\"\"\r\n"
+                + "\"two\nlines\",\"crlf\r\ninside\"\n"
+                + "last,no newline");
+
+        assertThat(records).containsExactly(
+                List.of("title", "description"),
+                List.of("a,b", "say \"hi\""),
+                List.of("two\nlines", "crlf\r\ninside"),
+                List.of("last", "no newline"));
+    }
+
+    @Test
+    void emptyFieldsAndBlankLines() throws IOException {
+        assertThat(readAll(",,\n\n\"\",x\n")).containsExactly(
+                List.of("", "", ""),
+                List.of(""),
+                List.of("", "x"));
+    }
+
+    @Test
+    void roundTripsWhatItWrites() throws IOException {
+        var row = List.<Object>of("x", "quote \" comma , cr \r lf \n", "", " spaced ");
+        var out = new StringWriter();
+        Csv.writeRow(out, row.toArray());
+
+        assertThat(readAll(out.toString())).containsExactly(List.of("x", "quote \" comma , cr \r lf \n", "", " spaced "));
+    }
+
+    @Test
+    void reportsTheLineEachRecordStartsOn() throws IOException {
+        var reader = new Csv.RecordReader(new StringReader("h\r\n\"multi\nline\"\nnext\r\n"));
+        var lines = new ArrayList<Long>();
+        while (reader.next() != null) lines.add(reader.line());
+
+        assertThat(lines).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    void anUnterminatedQuoteIsMalformedAndNamesItsLine() {
+        var reader = new Csv.RecordReader(new StringReader("title\nok\n\"never closed,\nstill open\n"));
+
+        assertThatThrownBy(() -> { while (reader.next() != null) { } })
+                .isInstanceOf(Csv.MalformedCsvException.class)
+                .hasMessageContaining("line 3");
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        var reader = new Csv.RecordReader(new StringReader(csv));
+        var out = new ArrayList<List<String>>();
+        List<String> record;
+        while ((record = reader.next()) != null) out.add(record);
+        return out;
+    }
+}
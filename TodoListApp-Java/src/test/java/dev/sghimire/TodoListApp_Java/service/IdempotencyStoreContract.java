@@ -0,0 +1,65 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.service.IdempotencyStore.Outcome;
+import dev.sghimire.TodoListApp_Java.service.IdempotencyStore.StoredResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Claim lifecycle every IdempotencyStore must follow; subclasses supply the store
+abstract class IdempotencyStoreContract {
+
+    abstract IdempotencyStore store();
+
+    final String key = UUID.randomUUID().toString();
+
+    @Test
+    void firstClaimIsAcquiredAndASecondOneSeesItInProgress() {
+        assertThat(store().claim("tasks", key, "fp").outcome()).isEqualTo(Outcome.ACQUIRED);
+
+        var again = store().claim("tasks", key, "fp");
+        assertThat(again.outcome()).isEqualTo(Outcome.IN_PROGRESS);
+        assertThat(again.response()).isNull();
+    }
+
+    @Test
+    void completedRequestsReplayTheirResponse() {
+        store().claim("tasks", key, "fp");
+        store().complete("tasks", key, new StoredResponse(201, "{\"id\":7}"));
+
+        for (int i = 0; i < 2; i++) {
+            var replay = store().claim("tasks", key, "fp");
+            assertThat(replay.outcome()).isEqualTo(Outcome.REPLAY);
+            assertThat(replay.response()).isEqualTo(new StoredResponse(201, "{\"id\":7}"));
+        }
+    }
+
+    @Test
+    void reusingAKeyForADifferentRequestIsAMismatch() {
+        store().claim("tasks", key, "fp");
+        assertThat(store().claim("tasks", key, "other").outcome()).isEqualTo(Outcome.MISMATCH);
+
+        store().complete("tasks", key, new StoredResponse(201, "{}"));
+        var afterCompletion = store().claim("tasks", key, "other");
+        assertThat(afterCompletion.outcome()).isEqualTo(Outcome.MISMATCH);
+        assertThat(afterCompletion.response()).isNull();
+    }
+
+    @Test
+    void releasedKeysCanBeClaimedAgain() {
+        store().claim("tasks", key, "fp");
+        store().release("tasks", key);
+
+        assertThat(store().claim("tasks", key, "fp").outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+
+    @Test
+    void scopesAreIndependent() {
+        store().claim("tasks", key, "fp");
+        store().complete("tasks", key, new StoredResponse(201, "{}"));
+
+        assertThat(store().claim("users", key, "other").outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+}
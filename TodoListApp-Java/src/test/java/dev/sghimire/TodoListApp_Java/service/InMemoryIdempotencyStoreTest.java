@@ -0,0 +1,13 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import java.time.Duration;
+
+class InMemoryIdempotencyStoreTest extends IdempotencyStoreContract {
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofHours(1), 1000);
+
+    @Override
+    IdempotencyStore store() {
+        return store;
+    }
+}
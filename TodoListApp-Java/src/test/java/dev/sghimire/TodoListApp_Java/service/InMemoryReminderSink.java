@@ -0,0 +1,29 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Collects reminders so tests can assert on what was sent. A hook runs first on each batch,
+// to inspect the state at delivery time or to fail the delivery.
+class InMemoryReminderSink implements ReminderSink {
+
+    private final List<TaskReminder> delivered = new ArrayList<>();
+    private volatile Consumer<List<TaskReminder>> onDeliver = batch -> {};
+
+    @Override
+    public synchronized void deliver(List<TaskReminder> batch) {
+        onDeliver.accept(batch);
+        delivered.addAll(batch);
+    }
+
+    void onDeliver(Consumer<List<TaskReminder>> hook) {
+        this.onDeliver = hook;
+    }
+
+    synchronized List<TaskReminder> drain() {
+        var out = List.copyOf(delivered);
+        delivered.clear();
+        return out;
+    }
+}
@@ -0,0 +1,100 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Stand-in for the Postgres index in unit tests: a term -> (task -> weight) inverted index.
+// Title terms weigh 1.0, description terms 0.4 (roughly the A/B weights of ts_rank); every
+// query term must match.
+class InMemoryTaskSearchIndex implements TaskSearchIndex {
+
+    private static final float TITLE_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 0.4f;
+
+    private final Map<String, Map<Integer, Float>> postings = new HashMap<>();
+    private final Map<Integer, TaskResponse> docs = new HashMap<>();
+    private final Map<Integer, List<String>> termsByDoc = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void index(TaskResponse task) {
+        var weights = new HashMap<String, Float>();
+        for (String term : tokenize(task.title())) weights.merge(term, TITLE_WEIGHT, Float::sum);
+        for (String term : tokenize(task.description())) weights.merge(term, DESCRIPTION_WEIGHT, Float::sum);
+
+        lock.writeLock().lock();
+        try {
+            remove(task.id());
+            docs.put(task.id(), task);
+            termsByDoc.put(task.id(), List.copyOf(weights.keySet()));
+            weights.forEach((term, w) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(task.id(), w));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Hit> search(Query query, Float afterRank, Integer afterId, int limit) {
+        var terms = tokenize(query.text());
+        if (terms.isEmpty()) return List.of();
+
+        var hits = new ArrayList<Hit>();
+        lock.readLock().lock();
+        try {
+            // walk the shortest posting list, require every other term
+            var lists = terms.stream().map(t -> postings.getOrDefault(t, Map.of())).toList();
+            var shortest = lists.stream().min(Comparator.comparingInt(Map::size)).orElseThrow();
+            for (Integer id : shortest.keySet()) {
+                float rank = 0;
+                boolean all = true;
+                for (var list : lists) {
+                    Float w = list.get(id);
+                    if (w == null) { all = false; break; }
+                    rank += w;
+                }
+                var task = docs.get(id);
+                if (all && matches(task, query)) hits.add(new Hit(task, rank));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return hits.stream()
+                .sorted(Comparator.comparing(Hit::rank).thenComparing(h -> h.task().id()).reversed())
+                .filter(h -> afterRank == null || afterId == null
+                        || h.rank() < afterRank || (h.rank() == afterRank && h.task().id() < afterId))
+                .limit(limit)
+                .toList();
+    }
+
+    private static boolean matches(TaskResponse task, Query q) {
+        return (q.status() == null || q.status() == task.status())
+                && (q.categoryId() == null || Objects.equals(q.categoryId(), task.categoryId()))
+                && (q.assigneeId() == null || Objects.equals(q.assigneeId(), task.assigneeId()));
+    }
+
+    private void remove(Integer id) {
+        var old = termsByDoc.remove(id);
+        if (old == null) return;
+        for (String term : old) {
+            var list = postings.get(term);
+            if (list != null && list.remove(id) != null && list.isEmpty()) postings.remove(term);
+        }
+        docs.remove(id);
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        var out = new ArrayList<String>();
+        for (String token : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) out.add(token);
+        }
+        return out;
+    }
+}
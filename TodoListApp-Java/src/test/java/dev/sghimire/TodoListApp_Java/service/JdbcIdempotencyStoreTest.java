@@ -0,0 +1,69 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.TestcontainersConfiguration;
+import dev.sghimire.TodoListApp_Java.service.IdempotencyStore.Outcome;
+import dev.sghimire.TodoListApp_Java.service.IdempotencyStore.StoredResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The shared contract against the idempotency_keys table, plus lease takeover and TTL expiry
+@SpringBootTest(properties = {
+        "todo.idempotency.store=jdbc",
+        "todo.idempotency.lease=1s",
+        "todo.tasks.journal.enabled=false"
+})
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcIdempotencyStoreTest extends IdempotencyStoreContract {
+
+    @Autowired
+    JdbcIdempotencyStore store;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Override
+    IdempotencyStore store() {
+        return store;
+    }
+
+    @Test
+    void anUnfinishedClaimOlderThanTheLeaseIsTakenOver() throws InterruptedException {
+        store.claim("tasks", key, "fp");
+        assertThat(store.claim("tasks", key, "fp").outcome()).isEqualTo(Outcome.IN_PROGRESS);
+
+        Thread.sleep(1_500); // the claiming instance "died" without complete() or release()
+
+        assertThat(store.claim("tasks", key, "fp").outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+
+    @Test
+    void aCompletedKeyOutlivesTheLeaseButNotTheTtl() throws InterruptedException {
+        var shortTtl = new JdbcIdempotencyStore(jdbc, Duration.ofSeconds(2), Duration.ofSeconds(1));
+        shortTtl.claim("tasks", key, "fp");
+        shortTtl.complete("tasks", key, new StoredResponse(201, "{}"));
+
+        Thread.sleep(1_500);
+        assertThat(shortTtl.claim("tasks", key, "fp").outcome()).isEqualTo(Outcome.REPLAY);
+
+        Thread.sleep(1_000);
+        assertThat(shortTtl.claim("tasks", key, "other").outcome()).isEqualTo(Outcome.ACQUIRED);
+    }
+
+    @Test
+    void releaseNeverDropsACompletedResponse() {
+        store.claim("tasks", key, "fp");
+        store.complete("tasks", key, new StoredResponse(201, "{}"));
+        store.release("tasks", key);
+
+        assertThat(store.claim("tasks", key, "fp").outcome()).isEqualTo(Outcome.REPLAY);
+    }
+}
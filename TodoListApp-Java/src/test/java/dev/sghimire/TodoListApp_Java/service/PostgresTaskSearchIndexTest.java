@@ -0,0 +1,138 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.TestcontainersConfiguration;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// websearch_to_tsquery parsing, ts_rank ordering (title outweighs description), filters and
+// (rank, id) keyset paging of the tsvector index against Postgres. Each test searches for its
+// own made-up word, so tests never see each other's tasks.
+@SpringBootTest(properties = {
+        "todo.reminders.initial-delay=1h",
+        "todo.tasks.journal.enabled=false"
+})
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresTaskSearchIndexTest {
+
+    @Autowired PostgresTaskSearchIndex index;
+    @Autowired JdbcTemplate jdbc;
+
+    String word;
+    int userId;
+
+    @BeforeEach
+    void setUp() {
+        word = randomWord();
+        userId = jdbc.queryForObject("INSERT INTO users (name, email) VALUES ('searcher', ?) RETURNING id",
+                Integer.class, "s-" + UUID.randomUUID() + "@example.com");
+    }
+
+    @Test
+    void titleMatchesOutrankDescriptionMatches() {
+        int inDescription = task("unrelated", "mentions " + word + " once", TaskStatus.PENDING, null);
+        int inTitle = task(word + " report", null, TaskStatus.PENDING, null);
+        task("nothing here", "nor here", TaskStatus.PENDING, null);
+
+        var hits = index.search(query(word), null, null, 10);
+
+        assertThat(hits).extracting(h -> h.task().id()).containsExactly(inTitle, inDescription);
+        assertThat(hits.get(0).rank()).isGreaterThan(hits.get(1).rank());
+        assertThat(hits.get(0).task().createdByName()).isEqualTo("searcher");
+    }
+
+    @Test
+    void understandsWebSearchSyntax() {
+        String other = randomWord();
+        int phrase = task(word + " " + other, null, TaskStatus.PENDING, null);
+        int reversed = task(other + " " + word, null, TaskStatus.PENDING, null);
+        int alone = task(word, null, TaskStatus.PENDING, null);
+
+        assertThat(ids(query("\"" + word + " " + other + "\""))).containsExactly(phrase);
+        assertThat(ids(query(word + " -" + other))).containsExactly(alone);
+        assertThat(ids(query(other + " or " + word))).containsExactlyInAnyOrder(phrase, reversed, alone);
+        // stemming: the plural finds the singular
+        assertThat(ids(query(word + "s"))).contains(alone);
+    }
+
+    @Test
+    void appliesStatusCategoryAndAssigneeFilters() {
+        int categoryId = jdbc.queryForObject("INSERT INTO categories (name) VALUES (?) RETURNING id",
+                Integer.class, "search-" + word);
+        int pending = task(word, null, TaskStatus.PENDING, null);
+        int done = task(word, null, TaskStatus.COMPLETED, null);
+        int categorized = task(word, null, TaskStatus.PENDING, categoryId);
+        int assigned = task(word, null, TaskStatus.PENDING, null);
+        jdbc.update("UPDATE tasks SET assignee_id = ? WHERE id = ?", userId, assigned);
+
+        assertThat(ids(new TaskSearchIndex.Query(word, TaskStatus.COMPLETED, null, null))).containsExactly(done);
+        assertThat(ids(new TaskSearchIndex.Query(word, null, categoryId, null))).containsExactly(categorized);
+        assertThat(ids(new TaskSearchIndex.Query(word, null, null, userId))).containsExactly(assigned);
+        assertThat(ids(new TaskSearchIndex.Query(word, TaskStatus.PENDING, null, null)))
+                .containsExactlyInAnyOrder(pending, categorized, assigned);
+    }
+
+    @Test
+    void pagesByRankThenIdWithoutGapsOrRepeats() {
+        var expected = new ArrayList<Integer>();
+        expected.add(task(word + " " + word, null, TaskStatus.PENDING, null));   // ranks highest
+        var ties = new ArrayList<Integer>();
+        for (int i = 0; i < 5; i++) ties.add(task(word, null, TaskStatus.PENDING, null));   // equal ranks
+        ties.sort((a, b) -> b - a);
+        expected.addAll(ties);
+        expected.add(task("other", word, TaskStatus.PENDING, null));              // description only
+
+        var seen = new ArrayList<Integer>();
+        Float afterRank = null;
+        Integer afterId = null;
+        List<TaskSearchIndex.Hit> page;
+        do {
+            page = index.search(query(word), afterRank, afterId, 2);
+            assertThat(page.size()).isLessThanOrEqualTo(2);
+            for (var hit : page) seen.add(hit.task().id());
+            if (!page.isEmpty()) {
+                var last = page.get(page.size() - 1);
+                afterRank = last.rank();
+                afterId = last.task().id();
+            }
+        } while (!page.isEmpty());
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    private int task(String title, String description, TaskStatus status, Integer categoryId) {
+        return jdbc.queryForObject("""
+                INSERT INTO tasks (title, description, status, category_id, created_by_id)
+                VALUES (?, ?, CAST(? AS task_status), ?, ?) RETURNING id
+                """, Integer.class, title, description, status.name(), categoryId, userId);
+    }
+
+    private TaskSearchIndex.Query query(String text) {
+        return new TaskSearchIndex.Query(text, null, null, null);
+    }
+
+    private List<Integer> ids(TaskSearchIndex.Query query) {
+        return index.search(query, null, null, 50).stream().map(h -> h.task().id()).toList();
+    }
+
+    // letters only, so the parser keeps it one token; the final k gives no suffix to stem but a plural s
+    private static String randomWord() {
+        var random = ThreadLocalRandom.current();
+        var sb = new StringBuilder("zq");
+        for (int i = 0; i < 10; i++) sb.append((char) ('a' + random.nextInt(26)));
+        return sb.append('k').toString();
+    }
+}
@@ -0,0 +1,108 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.TestcontainersConfiguration;
+import dev.sghimire.TodoListApp_Java.dto.TaskChangesResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A write transaction that stays open longer than the skew margin (a slow import chunk) holds the
+// feed's horizon back instead of being skipped once it commits; one that only reads does not
+@SpringBootTest(properties = {
+        "todo.tasks.changes.skew-margin=0s",
+        "todo.tasks.journal.enabled=false"
+})
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TaskChangeFeedTest {
+
+    @Autowired TaskChangeFeed feed;
+    @Autowired DataSource dataSource;
+    @Autowired JdbcTemplate jdbc;
+
+    @Test
+    void rowsFromALongTransactionAreServedAfterItCommits() throws Exception {
+        int userId = jdbc.queryForObject("INSERT INTO users (name, email) VALUES ('f', ?) RETURNING id",
+                Integer.class, "f-" + UUID.randomUUID() + "@example.com");
+        String token = drain(null).nextToken();
+
+        int slow;
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            slow = insert(conn, userId, "slow");
+            Thread.sleep(200);  // well past the 0s margin
+            int fast = jdbc.queryForObject(
+                    "INSERT INTO tasks (title, created_by_id) VALUES ('fast', ?) RETURNING id", Integer.class, userId);
+
+            // the fast row is stamped after the open transaction started, so it waits too
+            TaskChangesResponse held = drain(token);
+            assertThat(ids(held.changed())).doesNotContain(slow, fast);
+            token = held.nextToken();
+
+            conn.commit();
+            assertThat(ids(drain(token).changed())).containsExactly(slow, fast);
+        }
+    }
+
+    @Test
+    void openTransactionsThatHaveNotWrittenDoNotHoldTheHorizonBack() throws Exception {
+        int userId = jdbc.queryForObject("INSERT INTO users (name, email) VALUES ('r', ?) RETURNING id",
+                Integer.class, "r-" + UUID.randomUUID() + "@example.com");
+        String token = drain(null).nextToken();
+
+        try (Connection conn = dataSource.getConnection()) {
+            // an export-style reader, left idle in transaction
+            conn.setAutoCommit(false);
+            conn.createStatement().execute("SELECT count(*) FROM tasks");
+            Thread.sleep(200);
+            int row = jdbc.queryForObject(
+                    "INSERT INTO tasks (title, created_by_id) VALUES ('while reading', ?) RETURNING id", Integer.class, userId);
+
+            assertThat(ids(drain(token).changed())).containsExactly(row);
+            conn.rollback();
+        }
+    }
+
+    private TaskChangesResponse drain(String since) {
+        var changed = new ArrayList<TaskResponse>();
+        var deleted = new ArrayList<Integer>();
+        TaskChangesResponse page;
+        do {
+            page = feed.changes(since, TaskChangeFeed.MAX_LIMIT);
+            changed.addAll(page.changed());
+            deleted.addAll(page.deleted());
+            since = page.nextToken();
+        } while (page.hasMore());
+        return new TaskChangesResponse(changed, deleted, page.nextToken(), false);
+    }
+
+    private static int insert(Connection conn, int userId, String title) throws Exception {
+        try (PreparedStatement st = conn.prepareStatement(
+                "INSERT INTO tasks (title, created_by_id) VALUES (?, ?) RETURNING id")) {
+            st.setString(1, title);
+            st.setInt(2, userId);
+            try (ResultSet rs = st.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private static List<Integer> ids(List<TaskResponse> tasks) {
+        return tasks.stream().map(TaskResponse::id).toList();
+    }
+}
@@ -0,0 +1,46 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+// Export concurrency cap: slots are handed out up to max-concurrent, then refused until one closes
+class TaskExporterSlotsTest {
+
+    private final TaskExporter exporter = new TaskExporter(mock(DataSource.class), mock(PlatformTransactionManager.class),
+            new ObjectMapper(), 1000, 5000, 2, Duration.ofSeconds(30));
+
+    @Test
+    void refusesAnExportBeyondTheCap() {
+        var first = exporter.reserve();
+        var second = exporter.reserve();
+
+        assertThatThrownBy(exporter::reserve)
+                .isInstanceOfSatisfying(ExportCapacityExceededException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(30)));
+
+        first.close();
+        exporter.reserve().close();
+        second.close();
+    }
+
+    @Test
+    void closingASlotTwiceFreesItOnce() {
+        var slot = exporter.reserve();
+        slot.close();
+        slot.close();
+
+        var a = exporter.reserve();
+        var b = exporter.reserve();
+        assertThatThrownBy(exporter::reserve).isInstanceOf(ExportCapacityExceededException.class);
+        a.close();
+        b.close();
+    }
+}
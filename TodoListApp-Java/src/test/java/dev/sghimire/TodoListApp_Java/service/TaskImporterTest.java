@@ -0,0 +1,184 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sghimire.TodoListApp_Java.TestcontainersConfiguration;
+import dev.sghimire.TodoListApp_Java.config.RecentWriters;
+import dev.sghimire.TodoListApp_Java.dto.TaskCreateRequest;
+import dev.sghimire.TodoListApp_Java.dto.TaskImportResponse;
+import dev.sghimire.TodoListApp_Java.repository.CategoryRepository;
+import dev.sghimire.TodoListApp_Java.repository.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Both loaders (COPY and the JDBC batch fallback) against Postgres: parsed CSV/NDJSON rows land
+// the same way, bad rows are reported by line, imported ids never collide with Hibernate's, and
+// unparseable CSV stops with what was already imported. Small chunks so imports span several.
+@SpringBootTest(properties = {
+        "todo.reminders.initial-delay=1h",
+        "todo.tasks.journal.enabled=false"
+})
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TaskImporterTest {
+
+    @Autowired DataSource dataSource;
+    @Autowired PlatformTransactionManager txManager;
+    @Autowired UserAccountRepository users;
+    @Autowired CategoryRepository categories;
+    @Autowired ReferenceDataCache refData;
+    @Autowired TaskStatusCounter statusCounter;
+    @Autowired RecentWriters recentWriters;
+    @Autowired ObjectMapper mapper;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TaskService tasks;
+
+    String tag;
+    String category;
+    String email;
+    int userId;
+    int categoryId;
+
+    @BeforeEach
+    void setUp() {
+        tag = UUID.randomUUID().toString();
+        category = "import-" + tag;
+        email = "import-" + tag + "@example.com";
+        userId = jdbc.queryForObject("INSERT INTO users (name, email) VALUES ('importer', ?) RETURNING id",
+                Integer.class, email);
+        categoryId = jdbc.queryForObject("INSERT INTO categories (name) VALUES (?) RETURNING id",
+                Integer.class, category);
+    }
+
+    @ParameterizedTest(name = "copy={0}")
+    @ValueSource(booleans = {true, false})
+    void csvRowsLandTheSameThroughEitherLoader(boolean copy) throws IOException {
+        var result = csv(importer(copy, 2), """
+                title,description,status,category,assigneeEmail,dueDate\r
+                "Quoted, title %1$s","two
+                lines, ""quoted""\",completed,%2$s,%3$s,2030-01-02\r
+                plain %1$s,,,,,\r
+                """.formatted(tag, category.toUpperCase(), email));
+
+        assertThat(result.loader()).isEqualTo(copy ? "copy" : "batch-insert");
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.rejected()).isZero();
+
+        var quoted = row("Quoted, title " + tag);
+        assertThat(quoted.get("description")).isEqualTo("two\nlines, \"quoted\"");
+        assertThat(quoted.get("status")).isEqualTo("COMPLETED");
+        assertThat(quoted.get("category_id")).isEqualTo(categoryId);
+        assertThat(quoted.get("assignee_id")).isEqualTo(userId);
+        assertThat(quoted.get("created_by_id")).isEqualTo(userId);
+        assertThat(quoted.get("due_date")).isEqualTo(Date.valueOf(LocalDate.of(2030, 1, 2)));
+        assertThat(quoted.get("completed_at")).isNotNull();
+
+        var plain = row("plain " + tag);
+        assertThat(plain.get("description")).isNull();
+        assertThat(plain.get("status")).isEqualTo("PENDING");
+        assertThat(plain.get("completed_at")).isNull();
+    }
+
+    @ParameterizedTest(name = "copy={0}")
+    @ValueSource(booleans = {true, false})
+    void anEmptyDescriptionStaysEmptyNotNull(boolean copy) throws IOException {
+        ndjson(importer(copy, 2), """
+                {"title":"empty %1$s","description":""}
+                {"title":"absent %1$s"}
+                """.formatted(tag));
+
+        assertThat(row("empty " + tag).get("description")).isEqualTo("");
+        assertThat(row("absent " + tag).get("description")).isNull();
+    }
+
+    @Test
+    void badRowsAreRejectedByLineAndTheRestImported() throws IOException {
+        var result = ndjson(importer(true, 2), """
+                {"title":"ok %1$s"}
+                {"title":"bad status %1$s","status":"someday"}
+
+                {"title":"no such category %1$s","category":"missing-%1$s"}
+                {"title":" "}
+                not json
+                {"title":"ok too %1$s","dueDate":"2030-02-03"}
+                """.formatted(tag));
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(4);
+        assertThat(result.rejections()).extracting(TaskImportResponse.Rejection::line).containsExactly(2L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void importedIdsNeverCollideWithIdsHibernateHandsOut() throws IOException {
+        var copy = importer(true, 3);
+        var batch = importer(false, 3);
+
+        csv(copy, "title\n" + "a " + tag + "\n" + "b " + tag + "\n");
+        var created = tasks.create(new TaskCreateRequest("jpa " + tag, null, null, null, null), userId);
+        csv(batch, "title\n" + "c " + tag + "\n" + "d " + tag + "\n");
+        var createdAgain = tasks.create(new TaskCreateRequest("jpa again " + tag, null, null, null, null), userId);
+
+        var ids = jdbc.queryForList("SELECT id FROM tasks WHERE title LIKE ?", Integer.class, "% " + tag);
+        assertThat(ids).hasSize(6).doesNotHaveDuplicates().contains(created.id(), createdAgain.id());
+    }
+
+    @Test
+    void unterminatedQuoteStopsTheImportAndReportsWhatWasImported() {
+        var importer = importer(true, 2);
+        String body = "title\n" + "one " + tag + "\ntwo " + tag + "\nthree " + tag + "\n\"never closed\nfour " + tag + "\n";
+
+        assertThatThrownBy(() -> csv(importer, body))
+                .isInstanceOfSatisfying(TaskImportAbortedException.class, e -> {
+                    assertThat(e.getMessage()).contains("line 5");
+                    // the first chunk committed before the broken record; the rest up to it follows
+                    assertThat(e.getProgress().imported()).isEqualTo(3);
+                });
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM tasks WHERE title LIKE ?", Integer.class, "% " + tag))
+                .isEqualTo(3);
+    }
+
+    private TaskImporter importer(boolean copy, int chunkSize) {
+        return new TaskImporter(dataSource, txManager, users, categories, refData, statusCounter, recentWriters,
+                mapper, chunkSize, copy, 1000);
+    }
+
+    private TaskImportResponse csv(TaskImporter importer, String body) throws IOException {
+        return importer.importTasks(TaskExporter.Format.CSV, stream(body), userId);
+    }
+
+    private TaskImportResponse ndjson(TaskImporter importer, String body) throws IOException {
+        return importer.importTasks(TaskExporter.Format.NDJSON, stream(body), userId);
+    }
+
+    private Map<String, Object> row(String title) {
+        return jdbc.queryForMap("""
+                SELECT description, status::text AS status, category_id, assignee_id, created_by_id,
+                       due_date, completed_at
+                FROM tasks WHERE title = ?
+                """, title);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,190 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.sghimire.TodoListApp_Java.TestcontainersConfiguration;
+import dev.sghimire.TodoListApp_Java.dto.TaskHistoryEntry;
+import dev.sghimire.TodoListApp_Java.dto.TaskHistoryEntry.FieldChange;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Spool replay on restart, spill when the queue is full, truncate once drained, one journal per
+// committed transaction, and history paging, against task_history. The application's own
+// journal is off; each test runs one over its own spool.
+@SpringBootTest(properties = "todo.tasks.journal.enabled=false")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TaskJournalTest {
+
+    private static final AtomicInteger taskIds = new AtomicInteger(1_000_000);
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired ObjectMapper mapper;
+    @Autowired PlatformTransactionManager txManager;
+
+    @TempDir Path dir;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<TaskJournal> started = new ArrayList<>();
+
+    @AfterEach
+    void stopJournals() throws InterruptedException {
+        for (var journal : started) journal.stop();
+    }
+
+    @Test
+    void restartReplaysTheSpoolLeftBehindAndThenTruncatesIt() throws Exception {
+        int task = taskIds.incrementAndGet();
+        Path spool = dir.resolve("journal.ndjson");
+        // what a killed instance leaves behind: committed writes never group-committed, and a torn line
+        Files.writeString(spool, mapper.writeValueAsString(spooled(task, 1)) + "\n"
+                + mapper.writeValueAsString(spooled(task, 2)) + "\n"
+                + "{\"taskId\":" + task + ",\"vers");
+
+        var journal = start(spool, 100);
+
+        assertThat(versions(journal.history(task, null, 10).content())).containsExactly(2, 1);
+        awaitTrue(() -> size(spool) == 0);
+
+        // a second restart over the drained spool adds nothing
+        journal.stop();
+        start(spool, 100);
+        assertThat(versions(journal.history(task, null, 10).content())).containsExactly(2, 1);
+    }
+
+    @Test
+    void aTransactionThatFindsTheQueueFullIsJournaledFromTheSpool() throws Exception {
+        int task = taskIds.incrementAndGet();
+        Path spool = dir.resolve("journal.ndjson");
+        var journal = start(spool, 2); // three entries never fit: all of them spill
+
+        inTransaction(journal, created(task), renamed(task, 1), renamed(task, 2));
+
+        awaitTrue(() -> journal.history(task, null, 10).content().size() == 3);
+        assertThat(registry.get("todo.tasks.journal.spilled").counter().count()).isEqualTo(3);
+        awaitTrue(() -> size(spool) == 0);
+    }
+
+    @Test
+    void onlyCommittedTransactionsAreJournaled() throws Exception {
+        int rolledBack = taskIds.incrementAndGet();
+        int committed = taskIds.incrementAndGet();
+        var journal = start(dir.resolve("journal.ndjson"), 100);
+
+        new TransactionTemplate(txManager).executeWithoutResult(status -> {
+            journal.on(created(rolledBack));
+            status.setRollbackOnly();
+        });
+        inTransaction(journal, created(committed));
+
+        awaitTrue(() -> journal.history(committed, null, 10).content().size() == 1);
+        assertThat(journal.history(rolledBack, null, 10).content()).isEmpty();
+        assertThat(registry.get("todo.tasks.journal.spilled").counter().count()).isZero();
+    }
+
+    @Test
+    void historyPagesNewestFirstByVersion() throws Exception {
+        int task = taskIds.incrementAndGet();
+        var journal = start(dir.resolve("journal.ndjson"), 100);
+        inTransaction(journal, created(task), renamed(task, 1), renamed(task, 2), renamed(task, 3), renamed(task, 4));
+        awaitTrue(() -> journal.history(task, null, 10).content().size() == 5);
+
+        var first = journal.history(task, null, 2);
+        assertThat(versions(first.content())).containsExactly(4, 3);
+        assertThat(first.first()).isTrue();
+        assertThat(first.last()).isFalse();
+
+        var second = journal.history(task, first.nextCursor(), 2);
+        assertThat(versions(second.content())).containsExactly(2, 1);
+        assertThat(second.first()).isFalse();
+
+        var third = journal.history(task, second.nextCursor(), 2);
+        assertThat(versions(third.content())).containsExactly(0);
+        assertThat(third.last()).isTrue();
+        assertThat(third.nextCursor()).isNull();
+
+        assertThat(third.content().get(0).type()).isEqualTo("CREATED");
+        assertThat(first.content().get(0).changes()).containsOnlyKeys("title");
+    }
+
+    private TaskJournal start(Path spool, int queueCapacity) throws Exception {
+        var journal = new TaskJournal(jdbc, mapper, registry, true, spool, queueCapacity, 500,
+                Duration.ofMillis(10), Duration.ofMillis(10));
+        journal.start();
+        started.add(journal);
+        return journal;
+    }
+
+    private void inTransaction(TaskJournal journal, TaskChangedEvent... events) {
+        new TransactionTemplate(txManager).executeWithoutResult(status -> {
+            for (var event : events) journal.on(event);
+        });
+    }
+
+    private static TaskChangedEvent created(int id) {
+        return new TaskChangedEvent(TaskChangedEvent.Type.CREATED, task(id, 0));
+    }
+
+    // version - 1 -> version, title only
+    private static TaskChangedEvent renamed(int id, int version) {
+        var before = new EnumMap<TaskField, Object>(TaskField.class);
+        for (TaskField f : TaskField.values()) before.put(f, f.get(task(id, version - 1)));
+        return new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, task(id, version), before);
+    }
+
+    private static TaskResponse task(int id, int version) {
+        return new TaskResponse(id, "title v" + version, null, TaskStatus.PENDING, null, null,
+                null, null, 1, "u1", null, null, version);
+    }
+
+    private static TaskHistoryEntry spooled(int taskId, int version) {
+        return new TaskHistoryEntry(taskId, version, "UPDATED", 7, LocalDateTime.now(),
+                Map.of("title", new FieldChange("title v" + (version - 1), "title v" + version)));
+    }
+
+    private static List<Integer> versions(List<TaskHistoryEntry> entries) {
+        return entries.stream().map(TaskHistoryEntry::version).toList();
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10s").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
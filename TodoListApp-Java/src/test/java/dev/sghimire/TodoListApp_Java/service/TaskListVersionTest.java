@@ -0,0 +1,72 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.TestcontainersConfiguration;
+import dev.sghimire.TodoListApp_Java.dto.CategoryRequest;
+import dev.sghimire.TodoListApp_Java.dto.TaskCreateRequest;
+import dev.sghimire.TodoListApp_Java.dto.UserCreateRequest;
+import dev.sghimire.TodoListApp_Java.dto.UserUpdateRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The list ETag validator (V9) moves on writes to every table a list row is built from, once per
+// transaction, and never on reads
+@SpringBootTest(properties = {
+        "todo.reminders.initial-delay=1h",
+        "todo.tasks.journal.enabled=false"
+})
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TaskListVersionTest {
+
+    @Autowired TaskService tasks;
+    @Autowired UserService users;
+    @Autowired CategoryService categories;
+
+    @Test
+    void movesOnTaskUserAndCategoryWritesButNotOnReads() {
+        var user = users.create(new UserCreateRequest("v", "v-" + UUID.randomUUID() + "@example.com"));
+        long v = version();
+
+        tasks.list(null, PageRequest.of(0, 10));
+        tasks.byAssignee(user.id());
+        assertThat(version()).isEqualTo(v);
+
+        tasks.create(new TaskCreateRequest("versioned", null, null, null, null), user.id());
+        assertThat(version()).isGreaterThan(v);
+
+        // a rename changes assigneeName/createdByName in list bodies
+        v = version();
+        users.update(user.id(), new UserUpdateRequest("renamed", null, null));
+        assertThat(version()).isGreaterThan(v);
+
+        v = version();
+        categories.create(new CategoryRequest("c-" + UUID.randomUUID()));
+        assertThat(version()).isGreaterThan(v);
+    }
+
+    @Test
+    void aMultiStatementTransactionBumpsOnce() {
+        var user = users.create(new UserCreateRequest("b", "b-" + UUID.randomUUID() + "@example.com"));
+        long v = version();
+
+        tasks.createBatch(List.of(
+                new TaskCreateRequest("one", null, null, null, null),
+                new TaskCreateRequest("two", null, null, null, null),
+                new TaskCreateRequest("three", null, null, null, null)), user.id());
+
+        assertThat(version()).isEqualTo(v + 1);
+    }
+
+    private long version() {
+        return tasks.withListVersion(version -> version);
+    }
+}
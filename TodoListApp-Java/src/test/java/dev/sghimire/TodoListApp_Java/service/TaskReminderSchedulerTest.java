@@ -0,0 +1,132 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.TestcontainersConfiguration;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Claim window, claim-once and release-on-failure behaviour of the reminder poller against
+// Postgres. Each test polls as of its own far-future "today", so tests never see each other's
+// tasks; the scheduled poll is pushed out of the way.
+@SpringBootTest(properties = {
+        "todo.reminders.initial-delay=1h",
+        "todo.reminders.lead-days=1",
+        "todo.reminders.overdue-window-days=7",
+        "todo.tasks.journal.enabled=false"
+})
+@Import({TestcontainersConfiguration.class, TaskReminderSchedulerTest.SinkConfig.class})
+@Testcontainers(disabledWithoutDocker = true)
+class TaskReminderSchedulerTest {
+
+    private static final AtomicInteger days = new AtomicInteger();
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class SinkConfig {
+        @Bean
+        @Primary
+        InMemoryReminderSink inMemoryReminderSink() {
+            return new InMemoryReminderSink();
+        }
+    }
+
+    @Autowired TaskReminderScheduler scheduler;
+    @Autowired InMemoryReminderSink sink;
+    @Autowired JdbcTemplate jdbc;
+
+    LocalDate today;
+    Integer assigneeId;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.of(2040, 1, 1).plusDays(days.getAndAdd(30));
+        assigneeId = jdbc.queryForObject("INSERT INTO users (name, email) VALUES ('r', ?) RETURNING id",
+                Integer.class, "r-" + UUID.randomUUID() + "@example.com");
+        sink.onDeliver(batch -> {});
+        sink.drain();
+    }
+
+    @Test
+    void claimsEveryTaskInTheWindowExactlyOnce() {
+        int overdue = task(TaskStatus.PENDING, today.minusDays(3));
+        int dueToday = task(TaskStatus.PENDING, today);
+        int dueTomorrow = task(TaskStatus.IN_PROGRESS, today.plusDays(1));
+        task(TaskStatus.PENDING, today.plusDays(2));     // beyond the lead
+        task(TaskStatus.PENDING, today.minusDays(8));    // past the overdue window
+        task(TaskStatus.COMPLETED, today);
+
+        assertThat(scheduler.runBatch(today)).isEqualTo(3);
+        var sent = sink.drain();
+        assertThat(sent).extracting(TaskReminder::taskId).containsExactly(overdue, dueToday, dueTomorrow);
+        assertThat(sent).extracting(TaskReminder::overdue).containsExactly(true, false, false);
+        assertThat(sent).allSatisfy(r -> assertThat(r.assigneeId()).isEqualTo(assigneeId));
+
+        assertThat(scheduler.runBatch(today)).isZero();
+        assertThat(sink.drain()).isEmpty();
+    }
+
+    @Test
+    void deliversOnlyAfterTheClaimHasCommitted() {
+        int id = task(TaskStatus.PENDING, today);
+        var seen = new ArrayList<Boolean>();
+        sink.onDeliver(batch -> {
+            seen.add(TransactionSynchronizationManager.isActualTransactionActive());
+            // a fresh connection sees the claim only once it is committed
+            seen.add(claimed(id));
+        });
+
+        assertThat(scheduler.runBatch(today)).isEqualTo(1);
+        assertThat(seen).containsExactly(false, true);
+    }
+
+    @Test
+    void failedDeliveryReleasesTheClaimForTheNextPoll() {
+        int id = task(TaskStatus.PENDING, today);
+        sink.onDeliver(batch -> { throw new IllegalStateException("sink down"); });
+
+        assertThat(scheduler.runBatch(today)).isZero();
+        assertThat(claimed(id)).isFalse();
+
+        sink.onDeliver(batch -> {});
+        assertThat(scheduler.runBatch(today)).isEqualTo(1);
+        assertThat(sink.drain()).extracting(TaskReminder::taskId).containsExactly(id);
+    }
+
+    @Test
+    void movingTheDueDateMakesTheTaskOwedAgain() {
+        int id = task(TaskStatus.PENDING, today);
+        assertThat(scheduler.runBatch(today)).isEqualTo(1);
+
+        jdbc.update("UPDATE tasks SET due_date = ? WHERE id = ?", today.plusDays(1), id);
+
+        assertThat(scheduler.runBatch(today)).isEqualTo(1);
+        assertThat(sink.drain()).extracting(TaskReminder::dueDate).containsExactly(today, today.plusDays(1));
+    }
+
+    private int task(TaskStatus status, LocalDate dueDate) {
+        return jdbc.queryForObject("""
+                INSERT INTO tasks (title, status, assignee_id, created_by_id, due_date)
+                VALUES ('remind me', CAST(? AS task_status), ?, ?, ?) RETURNING id
+                """, Integer.class, status.name(), assigneeId, assigneeId, dueDate);
+    }
+
+    private boolean claimed(int id) {
+        return Boolean.TRUE.equals(jdbc.queryForObject(
+                "SELECT reminder_sent_for = due_date FROM tasks WHERE id = ?", Boolean.class, id));
+    }
+}
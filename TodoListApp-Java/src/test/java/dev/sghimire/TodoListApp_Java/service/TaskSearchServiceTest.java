@@ -0,0 +1,124 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Ranking and (rank, id) keyset paging of TaskSearchService over the in-memory index
+class TaskSearchServiceTest {
+
+    private final InMemoryTaskSearchIndex index = new InMemoryTaskSearchIndex();
+    private final TaskSearchService service = new TaskSearchService(index);
+
+    @BeforeEach
+    void seed() {
+        index.index(task(1, "Invoice customer", "send the invoice", TaskStatus.PENDING, 1));
+        index.index(task(2, "Call customer", "about the invoice", TaskStatus.PENDING, 2));
+        index.index(task(3, "Invoice run", null, TaskStatus.COMPLETED, 1));
+        index.index(task(4, "Clean desk", null, TaskStatus.PENDING, 1));
+        index.index(task(5, "Invoice supplier", null, TaskStatus.IN_PROGRESS, 2));
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        var page = service.search("invoice", null, null, null, null, 10);
+
+        // title+description (1.4), then title-only (1.0) newest first, then description-only (0.4)
+        assertThat(ids(page.content())).containsExactly(1, 5, 3, 2);
+        assertThat(page.first()).isTrue();
+        assertThat(page.last()).isTrue();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        var page = service.search("invoice customer", null, null, null, null, 10);
+
+        assertThat(ids(page.content())).containsExactly(1, 2);
+    }
+
+    @Test
+    void cursorPagesWalkTheRankingWithoutGapsOrRepeats() {
+        var seen = new ArrayList<Integer>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var page = service.search("invoice", null, null, null, cursor, 1);
+            assertThat(page.content()).hasSize(1);
+            assertThat(page.first()).isEqualTo(cursor == null);
+            seen.addAll(ids(page.content()));
+            cursor = page.nextCursor();
+            assertThat(page.last()).isEqualTo(cursor == null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(4);
+        assertThat(seen).containsExactly(1, 5, 3, 2);
+    }
+
+    @Test
+    void pageBoundaryInsideATieKeepsTheRestOfTheTie() {
+        var first = service.search("invoice", null, null, null, null, 2);
+        assertThat(ids(first.content())).containsExactly(1, 5);
+
+        var second = service.search("invoice", null, null, null, first.nextCursor(), 2);
+        assertThat(ids(second.content())).containsExactly(3, 2);
+        assertThat(second.last()).isTrue();
+    }
+
+    @Test
+    void filtersApplyBeforePaging() {
+        var pending = service.search("invoice", TaskStatus.PENDING, null, null, null, 10);
+        assertThat(ids(pending.content())).containsExactly(1, 2);
+
+        var assignee = service.search("invoice", null, null, 2, null, 10);
+        assertThat(ids(assignee.content())).containsExactly(5, 2);
+
+        var category = service.search("invoice", null, 1, null, null, 1);
+        assertThat(ids(category.content())).containsExactly(1);
+        assertThat(ids(service.search("invoice", null, 1, null, category.nextCursor(), 1).content()))
+                .containsExactly(3);
+    }
+
+    @Test
+    void reindexingATaskReplacesItsTerms() {
+        index.index(task(3, "Archive run", null, TaskStatus.COMPLETED, 1));
+
+        assertThat(ids(service.search("invoice", null, null, null, null, 10).content())).containsExactly(1, 5, 2);
+        assertThat(ids(service.search("archive", null, null, null, null, 10).content())).containsExactly(3);
+    }
+
+    @Test
+    void rejectsBlankQueriesAndBrokenCursors() {
+        assertThatThrownBy(() -> service.search("  ", null, null, null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.search("invoice", null, null, null, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.search("invoice", null, null, null, Cursors.encode("x", 1), 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid cursor");
+    }
+
+    @Test
+    void clampsThePageSize() {
+        assertThat(service.search("invoice", null, null, null, null, 0).size()).isEqualTo(1);
+        assertThat(service.search("invoice", null, null, null, null, 10_000).size()).isEqualTo(TaskService.MAX_PAGE_SIZE);
+    }
+
+    private static TaskResponse task(int id, String title, String description, TaskStatus status, int assigneeId) {
+        // category follows the assignee here: 1 -> category 1, 2 -> category 2
+        return new TaskResponse(id, title, description, status, assigneeId, "c" + assigneeId,
+                assigneeId, "u" + assigneeId, 1, "u1", null, null, 0);
+    }
+
+    private static List<Integer> ids(List<TaskResponse> tasks) {
+        return tasks.stream().map(TaskResponse::id).toList();
+    }
+}
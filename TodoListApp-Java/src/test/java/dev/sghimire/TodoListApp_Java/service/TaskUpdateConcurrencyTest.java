@@ -0,0 +1,207 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.dto.FieldConflict;
+import dev.sghimire.TodoListApp_Java.dto.TaskCreateRequest;
+import dev.sghimire.TodoListApp_Java.dto.TaskResponse;
+import dev.sghimire.TodoListApp_Java.dto.TaskUpdateRequest;
+import dev.sghimire.TodoListApp_Java.dto.UserCreateRequest;
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Many clients hammering one task, each group editing a different field. Strict mode turns every
+// lost race into a 409; merge mode may only reject a write when another client changed the same
+// field since the writer's base version, so it gets more of the same offered load through.
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class TaskUpdateConcurrencyTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Logger log = LoggerFactory.getLogger(TaskUpdateConcurrencyTest.class);
+
+    static final int THREADS = 15;
+    static final int ROUNDS = 25;
+
+    @Autowired
+    TaskService service;
+
+    @Autowired
+    UserService users;
+
+    Integer creatorId;
+
+    // one accepted or rejected write: the field group it edited and what came back
+    record Attempt(int group, TaskUpdateRequest request, TaskResponse result, RuntimeException rejection) {}
+
+    record Outcome(List<Attempt> attempts, List<Throwable> errors, TaskResponse start, TaskResponse end,
+                   Duration elapsed) {
+        List<Attempt> accepted() { return attempts.stream().filter(a -> a.result() != null).toList(); }
+        List<Attempt> rejected() { return attempts.stream().filter(a -> a.rejection() != null).toList(); }
+        double acceptedPerSecond() { return accepted().size() * 1e9 / elapsed.toNanos(); }
+    }
+
+    @BeforeEach
+    void createCreator() {
+        creatorId = users.create(new UserCreateRequest("writer", "writer-" + UUID.randomUUID() + "@example.com")).id();
+    }
+
+    @Test
+    void mergeKeepsEditsToOtherFieldsFromTheSameBaseVersion() {
+        TaskResponse base = service.create(new TaskCreateRequest("base", "d", null, null, null), creatorId);
+        service.get(base.id()); // the merge base is a version the client has read
+
+        service.updateMerging(base.id(), edit(0, base.version(), 0, 0));
+        service.updateMerging(base.id(), edit(1, base.version(), 1, 0));
+        TaskResponse merged = service.updateMerging(base.id(), edit(2, base.version(), 2, 0));
+
+        assertThat(merged.title()).isEqualTo("title 0-0");
+        assertThat(merged.description()).isEqualTo("description 1-0");
+        assertThat(merged.dueDate()).isEqualTo(edit(2, base.version(), 2, 0).dueDate());
+        assertThat(merged.version()).isEqualTo(base.version() + 3);
+
+        // the same base version editing an already-changed field is a real conflict
+        assertThatThrownBy(() -> service.updateMerging(base.id(), edit(0, base.version(), 3, 0)))
+                .isInstanceOfSatisfying(TaskUpdateConflictException.class, e ->
+                        assertThat(e.getConflicts()).extracting(FieldConflict::field).containsExactly("title"));
+        // strict mode rejects the stale base even for a field nobody else touched
+        assertThatThrownBy(() -> service.update(base.id(), edit(1, base.version(), 4, 0)))
+                .isInstanceOf(OptimisticLockException.class);
+    }
+
+    @Test
+    void mergeModeOnlyRejectsWritesThatOverlapAConcurrentEdit() throws Exception {
+        Outcome strict = hammer((id, req) -> service.update(id, req));
+        Outcome merge = hammer((id, req) -> service.updateMerging(id, req));
+
+        for (Outcome o : List.of(strict, merge)) {
+            assertThat(o.errors()).isEmpty();
+            assertThat(o.attempts()).hasSize(THREADS * ROUNDS);
+            // every accepted write bumped the version exactly once
+            assertThat(o.end().version() - o.start().version()).isEqualTo(o.accepted().size());
+        }
+
+        // a merge rejection either names the field the writer sent (someone else changed it since
+        // the writer's base) or is a race lost at flush MAX_MERGE_ATTEMPTS times in a row; never a
+        // conflict on a field the writer did not touch
+        for (Attempt a : merge.rejected()) {
+            if (a.rejection() instanceof TaskUpdateConflictException conflict) {
+                assertThat(conflict.getConflicts())
+                        .extracting(FieldConflict::field)
+                        .containsExactly(fieldOf(a.group()).jsonName());
+            } else {
+                assertThat(a.rejection()).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            }
+        }
+
+        // no accepted edit was overwritten by a write to another field: each field ends up with the
+        // value of the last accepted write that sent it
+        for (Outcome o : List.of(strict, merge)) {
+            for (int group = 0; group < 3; group++) {
+                int g = group;
+                var last = o.accepted().stream()
+                        .filter(a -> a.group() == g)
+                        .max(Comparator.comparing(a -> a.result().version()));
+                if (last.isEmpty()) continue;
+                var field = fieldOf(g);
+                assertThat(field.get(o.end())).as(field.jsonName()).isEqualTo(field.get(last.get().request()));
+            }
+        }
+
+        // the same offered load (THREADS x ROUNDS writes, each on a freshly read version): strict turns
+        // away every write that lost a race, merge only those that raced on the same field. Wall-clock
+        // rates are logged, not asserted; they depend on the machine more than on the mode.
+        report("strict", strict);
+        report("merge", merge);
+        assertThat(merge.accepted().size()).isGreaterThanOrEqualTo(strict.accepted().size());
+    }
+
+    private static void report(String mode, Outcome o) {
+        log.info("{}: {}/{} writes accepted in {} ms ({} accepted/s)", mode, o.accepted().size(),
+                o.attempts().size(), o.elapsed().toMillis(), String.format("%.1f", o.acceptedPerSecond()));
+    }
+
+    private Outcome hammer(BiFunction<Integer, TaskUpdateRequest, TaskResponse> update) throws Exception {
+        TaskResponse task = service.create(new TaskCreateRequest("contended", "d", null, null, null), creatorId);
+        Integer id = task.id();
+
+        var attempts = new ConcurrentLinkedQueue<Attempt>();
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        var start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int n = 0; n < THREADS; n++) {
+            int worker = n;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    int group = worker % 3;
+                    var req = edit(group, service.get(id).version(), worker, round);
+                    try {
+                        attempts.add(new Attempt(group, req, update.apply(id, req), null));
+                    } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
+                        attempts.add(new Attempt(group, req, null, e));
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+        long began = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) f.get();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - began);
+        pool.shutdown();
+
+        return new Outcome(List.copyOf(attempts), List.copyOf(errors), task, service.get(id), elapsed);
+    }
+
+    private static TaskField fieldOf(int group) {
+        return switch (group) {
+            case 0 -> TaskField.TITLE;
+            case 1 -> TaskField.DESCRIPTION;
+            default -> TaskField.DUE_DATE;
+        };
+    }
+
+    // three field groups; workers in the same group really do conflict with each other. Values are
+    // unique per write so every accepted update is a real change (and a version bump).
+    private static TaskUpdateRequest edit(int group, Integer version, int worker, int round) {
+        String tag = worker + "-" + round;
+        return switch (group) {
+            case 0 -> new TaskUpdateRequest(version, "title " + tag, null, null, null, null, null);
+            case 1 -> new TaskUpdateRequest(version, null, "description " + tag, null, null, null, null);
+            default -> new TaskUpdateRequest(version, null, null, null, null, null,
+                    LocalDate.now().plusDays(worker * ROUNDS + round));
+        };
+    }
+}
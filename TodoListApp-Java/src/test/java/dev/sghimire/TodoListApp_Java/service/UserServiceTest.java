@@ -0,0 +1,55 @@
+package dev.sghimire.TodoListApp_Java.service;
+
+import dev.sghimire.TodoListApp_Java.config.RecentWriters;
+import dev.sghimire.TodoListApp_Java.dto.UserCreateRequest;
+import dev.sghimire.TodoListApp_Java.repository.UserAccountRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Only a violation of one of the email unique constraints means "email already exists"
+class UserServiceTest {
+
+    @Test
+    void caseInsensitiveEmailViolationIsADuplicate() {
+        assertThatThrownBy(() -> failingWith("uq_users_email_lower").create(new UserCreateRequest("Bob", "Bob@x.com")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Email already exists: bob@x.com");
+    }
+
+    @Test
+    void exactEmailViolationIsADuplicate() {
+        assertThatThrownBy(() -> failingWith("users_email_key").create(new UserCreateRequest("Bob", "bob@x.com")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Email already exists");
+    }
+
+    @Test
+    void otherIntegrityViolationsAreNotReportedAsDuplicates() {
+        assertThatThrownBy(() -> failingWith("users_name_not_null").create(new UserCreateRequest("Bob", "bob@x.com")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> failingWith(null).create(new UserCreateRequest("Bob", "bob@x.com")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    // saveAndFlush fails the way Spring translates a Postgres constraint violation
+    private static UserService failingWith(String constraint) {
+        var users = (UserAccountRepository) Proxy.newProxyInstance(
+                UserAccountRepository.class.getClassLoader(),
+                new Class<?>[]{UserAccountRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("saveAndFlush")) throw new UnsupportedOperationException(method.getName());
+                    var cause = new ConstraintViolationException("could not execute statement",
+                            new SQLException("duplicate key value", "23505"), constraint);
+                    throw new DataIntegrityViolationException("could not execute statement", cause);
+                });
+        return new UserService(users, new ReferenceDataCache(users, null),
+                new RecentWriters(false, Duration.ofSeconds(5), "X-User-Id"));
+    }
+}